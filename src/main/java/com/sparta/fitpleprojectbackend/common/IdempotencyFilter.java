@@ -0,0 +1,296 @@
+package com.sparta.fitpleprojectbackend.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Idempotency-Key 헤더가 있는 결제 요청을 한 번만 처리하는 필터
+ * 계정과 키별로 요청 지문(메서드, 경로, 쿼리, 본문의 SHA-256)과 응답을 Redis에 저장해, 같은 요청이
+ * 다시 오면 컨트롤러와 DB를 거치지 않고 저장된 응답을 그대로 반환
+ * 처리 중인 키로 요청이 오면 409, 같은 키로 다른 요청이 오면 422로 응답
+ * 처리가 길어져도 선점이 풀리지 않도록 처리 중에는 선점 유지 시간을 주기적으로 연장
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final String KEY_PREFIX = "idempotency:";
+  private static final int MAX_KEY_LENGTH = 100;
+
+  private final IdempotencyStore idempotencyStore;
+  private final ObjectMapper objectMapper;
+  private final List<String> paths;
+  private final Duration ttl;
+  private final Duration lockTtl;
+  private final ScheduledExecutorService renewer;
+
+  public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+      @Value("${idempotency.paths:/api/pt-payments/save-payment,"
+          + "/api/pt-payments/test/complete}") List<String> paths,
+      @Value("${idempotency.ttl:24h}") Duration ttl,
+      @Value("${idempotency.lock-ttl:30s}") Duration lockTtl) {
+    this.idempotencyStore = idempotencyStore;
+    this.objectMapper = objectMapper;
+    this.paths = paths;
+    this.ttl = ttl;
+    this.lockTtl = lockTtl;
+    this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "idempotency-renewer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewer.shutdownNow();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getHeader(HEADER) == null
+        || !HttpMethod.POST.matches(request.getMethod())
+        || !paths.contains(request.getRequestURI());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws ServletException, IOException {
+    String idempotencyKey = request.getHeader(HEADER);
+    String accountId = currentAccountId();
+    if (accountId == null) {
+      //인증되지 않은 요청은 이후 인가 단계에서 거절되도록 그대로 전달
+      chain.doFilter(request, response);
+      return;
+    }
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      writeError(response, HttpStatus.BAD_REQUEST, "잘못된 Idempotency-Key 입니다.");
+      return;
+    }
+
+    CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+    String fingerprint = fingerprint(cachedRequest);
+    String storeKey = KEY_PREFIX + accountId + ":" + idempotencyKey;
+
+    String claim;
+    boolean claimed;
+    try {
+      claim = objectMapper.writeValueAsString(
+          IdempotencyRecord.inProgress(fingerprint, UUID.randomUUID().toString()));
+      claimed = idempotencyStore.claim(storeKey, claim, lockTtl);
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 저장소를 사용할 수 없어 그대로 처리합니다: {}", e.getMessage());
+      chain.doFilter(cachedRequest, response);
+      return;
+    }
+
+    if (!claimed) {
+      replay(storeKey, fingerprint, response);
+      return;
+    }
+
+    long renewMillis = Math.max(1L, lockTtl.toMillis() / 3);
+    ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(storeKey, claim),
+        renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+    ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+    boolean handled = false;
+    try {
+      chain.doFilter(cachedRequest, cachingResponse);
+      handled = true;
+    } finally {
+      renewal.cancel(false);
+      complete(storeKey, fingerprint, claim, cachingResponse, handled);
+      cachingResponse.copyBodyToResponse();
+    }
+  }
+
+  private void renew(String storeKey, String claim) {
+    try {
+      if (!idempotencyStore.renew(storeKey, claim, lockTtl)) {
+        log.warn("Idempotency-Key 선점이 만료되어 연장하지 못했습니다: {}", storeKey);
+      }
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 선점을 연장하지 못했습니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 처리 결과 저장, 예외나 서버 오류는 저장하지 않고 키를 풀어 클라이언트가 다시 시도할 수 있게 함
+   * 선점이 만료되어 다른 요청이 키를 가져간 경우에는 그 요청의 기록을 건드리지 않음
+   */
+  private void complete(String storeKey, String fingerprint, String claim,
+      ContentCachingResponseWrapper response, boolean handled) {
+    try {
+      if (!handled || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+        idempotencyStore.release(storeKey, claim);
+        return;
+      }
+      String result = objectMapper.writeValueAsString(
+          IdempotencyRecord.completed(fingerprint, response.getStatus(),
+              response.getContentType(),
+              Base64.getEncoder().encodeToString(response.getContentAsByteArray())));
+      if (!idempotencyStore.complete(storeKey, claim, result, ttl)) {
+        log.warn("Idempotency-Key 선점이 만료되어 처리 결과를 저장하지 않았습니다: {}", storeKey);
+      }
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 처리 결과를 저장하지 못했습니다: {}", e.getMessage());
+    }
+  }
+
+  private void replay(String storeKey, String fingerprint, HttpServletResponse response)
+      throws IOException {
+    String value = idempotencyStore.get(storeKey);
+    if (value == null) {
+      //조회 직전에 처리 중이던 요청이 실패해 키가 풀린 경우
+      writeError(response, HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+      return;
+    }
+
+    IdempotencyRecord record = objectMapper.readValue(value, IdempotencyRecord.class);
+    if (!record.getFingerprint().equals(fingerprint)) {
+      writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+          "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+      return;
+    }
+    if (!record.isCompleted()) {
+      writeError(response, HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+      return;
+    }
+
+    response.setStatus(record.getStatus());
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (record.getContentType() != null) {
+      response.setContentType(record.getContentType());
+    }
+    byte[] body = Base64.getDecoder().decode(record.getBody());
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private void writeError(HttpServletResponse response, HttpStatus status, String message)
+      throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(response.getWriter(),
+        new CommonResponse<>(status.value(), message, null));
+  }
+
+  private String currentAccountId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl)) {
+      return null;
+    }
+    return ((UserDetailsImpl) authentication.getPrincipal()).getUsername();
+  }
+
+  private String fingerprint(CachedBodyRequest request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+      digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+      if (request.getQueryString() != null) {
+        digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+      }
+      digest.update(request.getBody());
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 지문 계산을 위해 본문을 미리 읽고, 이후 단계에서도 다시 읽을 수 있게 보관하는 요청
+   */
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = StreamUtils.copyToByteArray(request.getInputStream());
+    }
+
+    byte[] getBody() {
+      return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          //본문을 이미 모두 읽어 두었으므로 바로 읽을 수 있음을 알림
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+
+        @Override
+        public int read() {
+          return inputStream.read();
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+  }
+}
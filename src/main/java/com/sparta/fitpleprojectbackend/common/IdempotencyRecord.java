@@ -0,0 +1,45 @@
+package com.sparta.fitpleprojectbackend.common;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 하나에 대해 저장되는 요청 지문과 응답
+ * 처리 중에는 지문과 선점한 요청의 소유자 값만, 처리가 끝나면 응답 상태 코드, 콘텐츠 타입,
+ * 본문(Base64)까지 저장
+ */
+@Getter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+  private boolean completed;
+
+  private String fingerprint;
+
+  private String owner;
+
+  private int status;
+
+  private String contentType;
+
+  private String body;
+
+  private IdempotencyRecord(boolean completed, String fingerprint, String owner, int status,
+      String contentType, String body) {
+    this.completed = completed;
+    this.fingerprint = fingerprint;
+    this.owner = owner;
+    this.status = status;
+    this.contentType = contentType;
+    this.body = body;
+  }
+
+  public static IdempotencyRecord inProgress(String fingerprint, String owner) {
+    return new IdempotencyRecord(false, fingerprint, owner, 0, null, null);
+  }
+
+  public static IdempotencyRecord completed(String fingerprint, int status, String contentType,
+      String body) {
+    return new IdempotencyRecord(true, fingerprint, null, status, contentType, body);
+  }
+}
@@ -0,0 +1,111 @@
+package com.sparta.fitpleprojectbackend.common;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 저장소
+ * 처리 중 기록에는 요청마다 다른 소유자 값이 들어 있어, 연장, 완료, 해제는 저장된 값이 자신이 선점한 값과
+ * 같을 때만 적용됨 (선점이 만료된 뒤 다른 요청이 다시 선점한 키를 덮어쓰지 않음)
+ */
+@Component
+public class IdempotencyStore {
+
+  /**
+   * 소유자가 같으면 만료 시간 연장, 연장되면 1
+   */
+  private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+      Long.class);
+
+  /**
+   * 소유자가 같으면 처리 결과로 교체, 교체되면 1
+   */
+  private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+          + "return 1",
+      Long.class);
+
+  /**
+   * 소유자가 같으면 삭제, 삭제되면 1
+   */
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "return redis.call('DEL', KEYS[1])",
+      Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public IdempotencyStore(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 키가 비어 있으면 처리 중 기록으로 선점
+   *
+   * @param key   저장소 키
+   * @param claim 처리 중 기록
+   * @param ttl   선점 유지 시간
+   * @return 선점하면 true
+   */
+  public boolean claim(String key, String claim, Duration ttl) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, claim, ttl));
+  }
+
+  /**
+   * 선점 유지 시간 연장
+   *
+   * @param key   저장소 키
+   * @param claim 선점할 때 저장한 처리 중 기록
+   * @param ttl   연장할 유지 시간
+   * @return 아직 선점하고 있어 연장되면 true
+   */
+  public boolean renew(String key, String claim, Duration ttl) {
+    return isApplied(redisTemplate.execute(RENEW_SCRIPT, List.of(key), claim,
+        String.valueOf(ttl.toMillis())));
+  }
+
+  /**
+   * 처리 결과 저장
+   *
+   * @param key    저장소 키
+   * @param claim  선점할 때 저장한 처리 중 기록
+   * @param result 처리 결과 기록
+   * @param ttl    처리 결과 보관 시간
+   * @return 아직 선점하고 있어 저장되면 true
+   */
+  public boolean complete(String key, String claim, String result, Duration ttl) {
+    return isApplied(redisTemplate.execute(COMPLETE_SCRIPT, List.of(key), claim, result,
+        String.valueOf(ttl.toMillis())));
+  }
+
+  /**
+   * 선점 해제
+   *
+   * @param key   저장소 키
+   * @param claim 선점할 때 저장한 처리 중 기록
+   */
+  public void release(String key, String claim) {
+    redisTemplate.execute(RELEASE_SCRIPT, List.of(key), claim);
+  }
+
+  /**
+   * 저장된 기록 조회
+   *
+   * @param key 저장소 키
+   * @return 처리 중 기록 또는 처리 결과 기록, 없으면 null
+   */
+  public String get(String key) {
+    return redisTemplate.opsForValue().get(key);
+  }
+
+  private boolean isApplied(Long result) {
+    return result != null && result == 1L;
+  }
+}
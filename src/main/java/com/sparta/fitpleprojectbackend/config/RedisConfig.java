@@ -1,26 +1,213 @@
 package com.sparta.fitpleprojectbackend.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import java.time.Duration;
+import java.util.HashSet;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 연결 설정
+ * 접속 정보, 토폴로지(단일/센티널/클러스터), 커넥션 풀, 명령 타임아웃은 spring.data.redis.* 설정을 따름
+ */
 @Configuration
 public class RedisConfig {
 
+  private final RedisProperties redisProperties;
+
+  private final int pipeliningFlushSize;
+
+  private final boolean latencyMetricsEnabled;
+
+  private final Duration latencyEmitInterval;
+
+  public RedisConfig(RedisProperties redisProperties,
+      @Value("${redis.pipelining.flush-size:0}") int pipeliningFlushSize,
+      @Value("${redis.metrics.latency.enabled:false}") boolean latencyMetricsEnabled,
+      @Value("${redis.metrics.latency.emit-interval:60s}") Duration latencyEmitInterval) {
+    this.redisProperties = redisProperties;
+    this.pipeliningFlushSize = pipeliningFlushSize;
+    this.latencyMetricsEnabled = latencyMetricsEnabled;
+    this.latencyEmitInterval = latencyEmitInterval;
+  }
+
+  /**
+   * Lettuce 클라이언트 리소스, 설정 시 명령별 지연 시간 히스토그램을 주기적으로 발행
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ClientResources lettuceClientResources() {
+    DefaultClientResources.Builder builder = DefaultClientResources.builder();
+    if (latencyMetricsEnabled) {
+      builder.commandLatencyRecorder(CommandLatencyCollector.create(
+              DefaultCommandLatencyCollectorOptions.builder()
+                  .enable()
+                  .resetLatenciesAfterEvent(true)
+                  .build()))
+          .commandLatencyPublisherOptions(DefaultEventPublisherOptions.builder()
+              .eventEmitInterval(latencyEmitInterval)
+              .build());
+    } else {
+      builder.commandLatencyRecorder(CommandLatencyRecorder.disabled());
+    }
+    return builder.build();
+  }
+
   @Bean
-  public RedisConnectionFactory redisConnectionFactory() {
-    return new LettuceConnectionFactory();
+  public LettuceConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+    LettuceClientConfiguration clientConfiguration = clientConfiguration(lettuceClientResources);
+
+    LettuceConnectionFactory connectionFactory;
+    if (redisProperties.getCluster() != null) {
+      connectionFactory = new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration);
+    } else if (redisProperties.getSentinel() != null) {
+      connectionFactory = new LettuceConnectionFactory(sentinelConfiguration(),
+          clientConfiguration);
+    } else {
+      connectionFactory = new LettuceConnectionFactory(standaloneConfiguration(),
+          clientConfiguration);
+    }
+
+    //파이프라인 사용 시 명령을 모아서 한 번에 전송
+    if (pipeliningFlushSize > 0) {
+      connectionFactory.setPipeliningFlushPolicy(
+          LettuceConnection.PipeliningFlushPolicy.buffered(pipeliningFlushSize));
+    }
+    return connectionFactory;
   }
 
   @Bean
-  public RedisTemplate<String, String> redisTemplate() {
+  public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
     RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-    redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setConnectionFactory(redisConnectionFactory);
     redisTemplate.setKeySerializer(new StringRedisSerializer());
     redisTemplate.setValueSerializer(new StringRedisSerializer());
     return redisTemplate;
   }
-}
\ No newline at end of file
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    return container;
+  }
+
+  private LettuceClientConfiguration clientConfiguration(ClientResources clientResources) {
+    LettuceClientConfigurationBuilder builder;
+    RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+    if (Boolean.TRUE.equals(pool.getEnabled())) {
+      GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+      poolConfig.setMaxTotal(pool.getMaxActive());
+      poolConfig.setMaxIdle(pool.getMaxIdle());
+      poolConfig.setMinIdle(pool.getMinIdle());
+      if (pool.getMaxWait() != null) {
+        poolConfig.setMaxWait(pool.getMaxWait());
+      }
+      builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+    } else {
+      builder = LettuceClientConfiguration.builder();
+    }
+
+    builder.clientResources(clientResources);
+    builder.clientOptions(clientOptions());
+    if (redisProperties.getTimeout() != null) {
+      builder.commandTimeout(redisProperties.getTimeout());
+    }
+    if (redisProperties.getLettuce().getShutdownTimeout() != null) {
+      builder.shutdownTimeout(redisProperties.getLettuce().getShutdownTimeout());
+    }
+    if (redisProperties.getSsl().isEnabled()) {
+      builder.useSsl();
+    }
+    return builder.build();
+  }
+
+  private ClientOptions clientOptions() {
+    SocketOptions.Builder socketOptions = SocketOptions.builder();
+    if (redisProperties.getConnectTimeout() != null) {
+      socketOptions.connectTimeout(redisProperties.getConnectTimeout());
+    }
+
+    if (redisProperties.getCluster() == null) {
+      return ClientOptions.builder()
+          .socketOptions(socketOptions.build())
+          .timeoutOptions(TimeoutOptions.enabled())
+          .build();
+    }
+
+    //클러스터는 노드 변경(페일오버, 리샤딩)을 감지해 토폴로지를 갱신
+    RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster()
+        .getRefresh();
+    ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder()
+        .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+    if (refresh.isAdaptive()) {
+      refreshOptions.enableAllAdaptiveRefreshTriggers();
+    }
+    if (refresh.getPeriod() != null) {
+      refreshOptions.enablePeriodicRefresh(refresh.getPeriod());
+    }
+    return ClusterClientOptions.builder()
+        .socketOptions(socketOptions.build())
+        .timeoutOptions(TimeoutOptions.enabled())
+        .topologyRefreshOptions(refreshOptions.build())
+        .build();
+  }
+
+  private RedisStandaloneConfiguration standaloneConfiguration() {
+    RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+        redisProperties.getHost(), redisProperties.getPort());
+    configuration.setDatabase(redisProperties.getDatabase());
+    configuration.setUsername(redisProperties.getUsername());
+    configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+    return configuration;
+  }
+
+  private RedisSentinelConfiguration sentinelConfiguration() {
+    RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+    RedisSentinelConfiguration configuration = new RedisSentinelConfiguration(
+        sentinel.getMaster(), new HashSet<>(sentinel.getNodes()));
+    configuration.setDatabase(redisProperties.getDatabase());
+    configuration.setUsername(redisProperties.getUsername());
+    configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+    configuration.setSentinelUsername(sentinel.getUsername());
+    configuration.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+    return configuration;
+  }
+
+  private RedisClusterConfiguration clusterConfiguration() {
+    RedisProperties.Cluster cluster = redisProperties.getCluster();
+    RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.getNodes());
+    if (cluster.getMaxRedirects() != null) {
+      configuration.setMaxRedirects(cluster.getMaxRedirects());
+    }
+    configuration.setUsername(redisProperties.getUsername());
+    configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+    return configuration;
+  }
+}
@@ -0,0 +1,65 @@
+package com.sparta.fitpleprojectbackend.config;
+
+import io.lettuce.core.event.metrics.CommandLatencyEvent;
+import io.lettuce.core.metrics.CommandLatencyId;
+import io.lettuce.core.metrics.CommandMetrics;
+import io.lettuce.core.resource.ClientResources;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+/**
+ * Lettuce가 주기적으로 발행하는 명령별 지연 시간 히스토그램을 로그로 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redis.metrics.latency.enabled", havingValue = "true")
+public class RedisLatencyLogger {
+
+  private final ClientResources clientResources;
+
+  private Disposable subscription;
+
+  public RedisLatencyLogger(ClientResources clientResources) {
+    this.clientResources = clientResources;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    subscription = clientResources.eventBus().get()
+        .filter(CommandLatencyEvent.class::isInstance)
+        .cast(CommandLatencyEvent.class)
+        .subscribe(this::log);
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  private void log(CommandLatencyEvent event) {
+    for (Map.Entry<CommandLatencyId, CommandMetrics> entry : event.getLatencies().entrySet()) {
+      CommandMetrics metrics = entry.getValue();
+      CommandMetrics.CommandLatency completion = metrics.getCompletion();
+      Map<Double, Long> percentiles = completion.getPercentiles();
+      log.info("Redis {} {}: count={}, min={}us, p50={}us, p99={}us, max={}us",
+          entry.getKey().remoteAddress(), entry.getKey().commandType().name(),
+          metrics.getCount(),
+          toMicros(completion.getMin(), metrics.getTimeUnit()),
+          toMicros(percentiles.getOrDefault(50.0, 0L), metrics.getTimeUnit()),
+          toMicros(percentiles.getOrDefault(99.0, 0L), metrics.getTimeUnit()),
+          toMicros(completion.getMax(), metrics.getTimeUnit()));
+    }
+  }
+
+  private long toMicros(long value, TimeUnit timeUnit) {
+    return timeUnit.toMicros(value);
+  }
+}
@@ -1,10 +1,17 @@
 package com.sparta.fitpleprojectbackend.config;
 
+import com.sparta.fitpleprojectbackend.common.IdempotencyFilter;
 import com.sparta.fitpleprojectbackend.jwtutil.JwtAuthenticationEntryPoint;
 import com.sparta.fitpleprojectbackend.jwtutil.JwtAuthenticationFilter;
+import com.sparta.fitpleprojectbackend.security.BoundedPasswordEncoder;
 import com.sparta.fitpleprojectbackend.security.CustomSessionExpiredStrategy;
+import com.sparta.fitpleprojectbackend.security.RateLimitProperties;
+import com.sparta.fitpleprojectbackend.security.RequestRateLimitFilter;
 import com.sparta.fitpleprojectbackend.security.UserDetailsServiceImpl;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,26 +19,31 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
   private final UserDetailsServiceImpl userDetailsServiceImpl;
   private final JwtAuthenticationEntryPoint unauthorizedHandler;
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RequestRateLimitFilter requestRateLimitFilter;
+  private final IdempotencyFilter idempotencyFilter;
 
   public SecurityConfig(
       @Qualifier("userDetailsServiceImpl") UserDetailsServiceImpl userDetailsServiceImpl,
       JwtAuthenticationEntryPoint unauthorizedHandler,
-      JwtAuthenticationFilter jwtAuthenticationFilter) {
+      JwtAuthenticationFilter jwtAuthenticationFilter,
+      RequestRateLimitFilter requestRateLimitFilter,
+      IdempotencyFilter idempotencyFilter) {
     this.userDetailsServiceImpl = userDetailsServiceImpl;
     this.unauthorizedHandler = unauthorizedHandler;
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.requestRateLimitFilter = requestRateLimitFilter;
+    this.idempotencyFilter = idempotencyFilter;
   }
 
   @Bean
@@ -44,7 +56,8 @@ public class SecurityConfig {
             .maxSessionsPreventsLogin(false)).authorizeHttpRequests(
             authorizeRequests -> authorizeRequests.requestMatchers("/api/login", "/api/user/signup",
                     "/api/owners/signup", "/api/logout", "/api/profile/users/signout",
-                    "/api/profile/owners/signout", "/api/trainers", "/error").permitAll()
+                    "/api/profile/owners/signout", "/api/token/refresh", "/api/trainers", "/error")
+                .permitAll()
                 .requestMatchers("/api/profile/users/**").hasRole("USER")
                 .requestMatchers("/api/profile/trainers/**").hasRole("TRAINER")
                 .requestMatchers("/api/profile/owners/**").hasRole("OWNER")
@@ -54,6 +67,8 @@ public class SecurityConfig {
                 .anyRequest().authenticated());
 
     http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+    http.addFilterBefore(requestRateLimitFilter, JwtAuthenticationFilter.class);
+    http.addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
@@ -64,8 +79,22 @@ public class SecurityConfig {
     return authenticationConfiguration.getAuthenticationManager();
   }
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  /**
+   * 전용 스레드 풀에서 해싱하는 BCrypt 인코더
+   * 비용 계수를 지정하지 않으면(0) 시작 시 목표 시간에 맞춰 측정
+   */
+  @Bean(destroyMethod = "shutdown")
+  public BoundedPasswordEncoder passwordEncoder(
+      @Value("${security.password-hashing.strength:0}") int strength,
+      @Value("${security.password-hashing.min-strength:10}") int minStrength,
+      @Value("${security.password-hashing.max-strength:14}") int maxStrength,
+      @Value("${security.password-hashing.target-latency:250ms}") Duration targetLatency,
+      @Value("${security.password-hashing.threads:0}") int threads,
+      @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password-hashing.timeout:3s}") Duration timeout) {
+    int resolvedStrength = strength > 0 ? strength
+        : BoundedPasswordEncoder.calibrateStrength(minStrength, maxStrength, targetLatency);
+    int resolvedThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(resolvedStrength, resolvedThreads, queueCapacity, timeout);
   }
 }
\ No newline at end of file
@@ -13,8 +13,12 @@ public enum ErrorType {
   DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "이미 존재하는 이메일입니다."),
   NOT_FOUND_STORE(HttpStatus.NOT_FOUND, "해당 매장이 존재하지 않습니다."),
   INVALID_USER(HttpStatus.FORBIDDEN, "본인의 매장이 아닙니다."),
+  DUPLICATE_STORE_TRAINER(HttpStatus.CONFLICT, "이미 매장에 등록된 트레이너입니다."),
+  NOT_FOUND_STORE_TRAINER(HttpStatus.NOT_FOUND, "매장에 등록되지 않은 트레이너입니다."),
   INVALID_INPUT(HttpStatus.BAD_REQUEST, "잘못된 입력입니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
   INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "잘못된 입력입니다."),
+  PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
   FORBIDDEN_OPERATION(HttpStatus.FORBIDDEN, "매장 등록은 점주만 가능합니다."),
   RESERVATION_CONFLICT(HttpStatus.CONFLICT, "이미 예약이 존재합니다."),
   TRAINER_NOT_FOUND(HttpStatus.NOT_FOUND, "트레이너를 찾을 수 없습니다."),
@@ -23,7 +27,10 @@ public enum ErrorType {
   PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제 정보를 찾을 수 없습니다."),
   PAYMENT_MISMATCH(HttpStatus.BAD_REQUEST, "결제 정보가 일치하지 않습니다."),
   PAYMENT_APPROVAL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "결제 승인이 실패했습니다."),
-  INVALID_PAYMENT_STATUS(HttpStatus.BAD_REQUEST, "잘못된 결제 상태입니다.");
+  INVALID_PAYMENT_STATUS(HttpStatus.BAD_REQUEST, "잘못된 결제 상태입니다."),
+  PAYMENT_FORBIDDEN(HttpStatus.FORBIDDEN, "본인의 결제가 아닙니다."),
+  INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."),
+  REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인 해주세요.");
 
   private final HttpStatus httpStatus;
   private final String message;
@@ -1,15 +1,21 @@
 package com.sparta.fitpleprojectbackend.jwtutil;
 
+import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.security.AccessTokenDenylist;
+import com.sparta.fitpleprojectbackend.security.TokenVersionRegistry;
+import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
+import com.sparta.fitpleprojectbackend.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,11 +26,20 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   @Autowired
-  private com.sparta.fitpleprojectbackend.jwtutil.JwtUtil jwtUtil;
+  private JwtClaimsCache jwtClaimsCache;
 
   @Autowired
   @Qualifier("userDetailsServiceImpl")
-  private UserDetailsService userDetailsService;
+  private UserDetailsServiceImpl userDetailsService;
+
+  @Autowired
+  private TokenVersionRegistry tokenVersionRegistry;
+
+  @Autowired
+  private AccessTokenDenylist accessTokenDenylist;
+
+  @Value("${jwt.stateless.enabled:false}")
+  private boolean statelessEnabled;
 
   /**
    * HTTP 요청을 필터링하고 JWT를 검증하여 인증 정보를 SecurityContextHolder에 설정
@@ -41,8 +56,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
 
     final String authHeader = request.getHeader("Authorization");
+    ParsedToken parsedToken = null;
     String username = null;
-    String jwt = null;
 
 
     String path = request.getRequestURI();
@@ -52,22 +67,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     if (authHeader != null && authHeader.startsWith("Bearer")) {
-      jwt = authHeader.substring(7);
-      username = jwtUtil.getUsername(jwt);
+      parsedToken = jwtClaimsCache.getParsedToken(authHeader.substring(7));
+      //리프레시 토큰은 같은 키로 서명되므로 종류를 확인해 액세스 토큰으로 쓰지 못하게 함
+      if (parsedToken.isValid() && !parsedToken.isRefreshToken()
+          && !accessTokenDenylist.isRevoked(parsedToken)) {
+        username = parsedToken.getSubject();
+      }
     }
 
     if (username != null && (SecurityContextHolder.getContext().getAuthentication() == null
         || !SecurityContextHolder.getContext().getAuthentication().isAuthenticated())) {
-      UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-      if (jwtUtil.validateToken(jwt)) {
-        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-            userDetails, null, userDetails.getAuthorities());
-        usernamePasswordAuthenticationToken.setDetails(
-            new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+      //비밀번호 변경, 전체 로그아웃 이전에 발급된 토큰은 인증 방식과 관계없이 거절
+      if (tokenVersionRegistry.isRevoked(username, parsedToken.getTokenVersion())) {
+        chain.doFilter(request, response);
+        return;
+      }
+
+      UserDetails userDetails = statelessEnabled ? buildStatelessUserDetails(parsedToken) : null;
+      if (userDetails == null) {
+        userDetails = this.userDetailsService.loadPrincipal(username);
       }
+
+      UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+          userDetails, null, userDetails.getAuthorities());
+      usernamePasswordAuthenticationToken.setDetails(
+          new WebAuthenticationDetailsSource().buildDetails(request));
+      SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
     }
     chain.doFilter(request, response);
   }
+
+  /**
+   * 토큰에 권한, 엔티티 ID, 토큰 버전이 모두 있으면 DB 조회 없이 인증 정보를 구성
+   *
+   * @param parsedToken 검증된 토큰
+   * @return 무상태 인증 정보, 필요한 클레임이 없으면 null
+   */
+  private UserDetails buildStatelessUserDetails(ParsedToken parsedToken) {
+    Claims claims = parsedToken.getClaims();
+    String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+    Long entityId = claims.get(JwtUtil.ENTITY_ID_CLAIM, Long.class);
+    Long tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Long.class);
+    if (role == null || entityId == null || tokenVersion == null) {
+      return null;
+    }
+    return new UserDetailsImpl(parsedToken.getSubject(), Role.valueOf(role), entityId);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.sparta.fitpleprojectbackend.jwtutil;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtClaimsCache {
+
+  private final JwtUtil jwtUtil;
+
+  private final Cache<String, ParsedToken> cache;
+
+  public JwtClaimsCache(JwtUtil jwtUtil,
+      @Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize) {
+    this.jwtUtil = jwtUtil;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new ClaimsExpiry())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 검증된 토큰의 파싱 결과를 조회, 캐시에 없으면 파싱 후 토큰 만료 시각까지 보관
+   *
+   * @param token JWT 토큰
+   * @return 토큰 파싱 결과, 유효하지 않으면 valid=false 결과
+   */
+  public ParsedToken getParsedToken(String token) {
+    String key = digest(token);
+    ParsedToken parsedToken = cache.getIfPresent(key);
+    if (parsedToken != null) {
+      if (parsedToken.isUsable()) {
+        return parsedToken;
+      }
+      cache.invalidate(key);
+      return ParsedToken.invalid();
+    }
+
+    parsedToken = jwtUtil.parseToken(token);
+    if (parsedToken.isValid()) {
+      cache.put(key, parsedToken);
+    }
+    return parsedToken;
+  }
+
+  /**
+   * 캐시 적중 횟수
+   *
+   * @return 누적 적중 횟수
+   */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * 캐시 미스 횟수
+   *
+   * @return 누적 미스 횟수
+   */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  private String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 항목별 만료 시간을 토큰의 exp 클레임에 맞추는 정책
+   */
+  private static class ClaimsExpiry implements Expiry<String, ParsedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, ParsedToken parsedToken, long currentTime) {
+      Date expiration = parsedToken.getExpiration();
+      if (expiration == null) {
+        return 0;
+      }
+      long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, ParsedToken parsedToken, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, parsedToken, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, ParsedToken parsedToken, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,23 +1,52 @@
 package com.sparta.fitpleprojectbackend.jwtutil;
 
+import com.sparta.fitpleprojectbackend.enums.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
+  public static final String ROLE_CLAIM = "role";
+  public static final String ENTITY_ID_CLAIM = "eid";
+  public static final String TOKEN_VERSION_CLAIM = "ver";
+  public static final String FAMILY_ID_CLAIM = "fam";
+  public static final String TOKEN_TYPE_CLAIM = "typ";
+  public static final String ACCESS_TOKEN_TYPE = "access";
+  public static final String REFRESH_TOKEN_TYPE = "refresh";
+
   @Value("${jwt.secret}")
   private String secretKey;
 
   private final long accessTokenValidity = 1800000; // (유효기간) 30분
   private final long refreshTokenValidity = 3600000; // (유효기간) 1시간
 
+  private Key signingKey;
+
+  private JwtParser jwtParser;
+
+  /**
+   * 서명 키와 파서를 시작 시 한 번만 생성 (JwtParser는 불변이므로 스레드 간 공유 가능)
+   */
+  @PostConstruct
+  public void init() {
+    byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+    this.signingKey = new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+  }
+
   /**
    * 사용자 이름으로 액세스 토큰을 생성
    *
@@ -26,56 +55,101 @@ public class JwtUtil {
    */
   public String generateAccessToken(String username) {
     Claims claims = Jwts.claims().setSubject(username);
+    claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+    Date now = new Date();
+    Date validity = new Date(now.getTime() + accessTokenValidity);
+
+    return Jwts.builder()
+        .setClaims(claims)
+        .setId(UUID.randomUUID().toString())
+        .setIssuedAt(now)
+        .setExpiration(validity)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
+        .compact();
+  }
+
+  /**
+   * 권한, 엔티티 ID, 토큰 버전을 포함한 액세스 토큰을 생성
+   * 무상태 인증 모드에서는 필터가 이 클레임만으로 인증 정보를 구성
+   *
+   * @param username     사용자 이름
+   * @param role         권한
+   * @param entityId     역할별 테이블의 ID
+   * @param tokenVersion 계정의 토큰 버전
+   * @return 생성된 액세스 토큰
+   */
+  public String generateAccessToken(String username, Role role, Long entityId,
+      long tokenVersion) {
+    Claims claims = Jwts.claims().setSubject(username);
+    claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+    claims.put(ROLE_CLAIM, role.name());
+    claims.put(ENTITY_ID_CLAIM, entityId);
+    claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
     Date now = new Date();
     Date validity = new Date(now.getTime() + accessTokenValidity);
 
     return Jwts.builder()
         .setClaims(claims)
+        .setId(UUID.randomUUID().toString())
         .setIssuedAt(now)
         .setExpiration(validity)
-        .signWith(SignatureAlgorithm.HS256, secretKey)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
   /**
    * 사용자 이름으로 리프레시 토큰을 생성
+   * 액세스 토큰과 같은 키로 서명하므로 토큰 종류를 담아 인증 필터에서 거절할 수 있게 함
    *
-   * @param username 사용자 이름
+   * @param username     사용자 이름
+   * @param familyId     로그인 시 발급되어 회전 시에도 유지되는 토큰 계열 ID
+   * @param tokenId      토큰 ID (jti)
+   * @param tokenVersion 발급 시점의 계정 토큰 버전
    * @return 생성된 리프레시 토큰
    */
-  public String generateRefreshToken(String username) {
+  public String generateRefreshToken(String username, String familyId, String tokenId,
+      long tokenVersion) {
     Claims claims = Jwts.claims().setSubject(username);
+    claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+    claims.put(FAMILY_ID_CLAIM, familyId);
+    claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
     Date now = new Date();
     Date validity = new Date(now.getTime() + refreshTokenValidity);
 
     return Jwts.builder()
         .setClaims(claims)
+        .setId(tokenId)
         .setIssuedAt(now)
         .setExpiration(validity)
-        .signWith(SignatureAlgorithm.HS256, secretKey)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
   /**
-   * 토큰에서 사용자 이름을 추출
+   * 토큰의 서명과 만료를 한 번에 검증하고 결과를 반환
    *
    * @param token JWT 토큰
-   * @return 토큰에서 추출한 사용자 이름, 유효하지 않은 경우 null
+   * @return 주체, 만료 시각, 유효 여부를 담은 파싱 결과
    */
-  public String getUsername(String token) {
+  public ParsedToken parseToken(String token) {
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(secretKey)
-          .build()
-          .parseClaimsJws(token)
-          .getBody()
-          .getSubject();
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+      return ParsedToken.of(claims);
     } catch (JwtException | IllegalArgumentException e) {
-      System.out.println("Invalid JWT token: " + e.getMessage());
-      return null;
+      return ParsedToken.invalid();
     }
   }
 
+  /**
+   * 토큰에서 사용자 이름을 추출
+   *
+   * @param token JWT 토큰
+   * @return 토큰에서 추출한 사용자 이름, 유효하지 않은 경우 null
+   */
+  public String getUsername(String token) {
+    return parseToken(token).getSubject();
+  }
+
   /**
    * 토큰의 유효성을 검증
    *
@@ -83,12 +157,16 @@ public class JwtUtil {
    * @return 토큰이 유효하면 true, 그렇지 않으면 false
    */
   public boolean validateToken(String token) {
-    try {
-      Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
+    return parseToken(token).isValid();
+  }
+
+  /**
+   * 액세스 토큰의 유효 기간을 반환
+   *
+   * @return 액세스 토큰 유효 기간 (밀리초 단위)
+   */
+  public long getAccessTokenValidity() {
+    return accessTokenValidity;
   }
 
   /**
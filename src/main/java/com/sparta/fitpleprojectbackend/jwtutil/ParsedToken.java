@@ -0,0 +1,78 @@
+package com.sparta.fitpleprojectbackend.jwtutil;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.Getter;
+
+/**
+ * 한 번의 파싱으로 얻은 토큰의 주체, 만료 시각, 유효 여부
+ */
+@Getter
+public class ParsedToken {
+
+  private static final ParsedToken INVALID = new ParsedToken(null, false);
+
+  private final Claims claims;
+
+  private final boolean valid;
+
+  private ParsedToken(Claims claims, boolean valid) {
+    this.claims = claims;
+    this.valid = valid;
+  }
+
+  public static ParsedToken of(Claims claims) {
+    return new ParsedToken(claims, true);
+  }
+
+  public static ParsedToken invalid() {
+    return INVALID;
+  }
+
+  public String getSubject() {
+    return claims != null ? claims.getSubject() : null;
+  }
+
+  public String getId() {
+    return claims != null ? claims.getId() : null;
+  }
+
+  public String getFamilyId() {
+    return claims != null ? claims.get(JwtUtil.FAMILY_ID_CLAIM, String.class) : null;
+  }
+
+  /**
+   * 토큰에 담긴 토큰 버전, 버전 클레임이 없는 이전 토큰은 최초 버전(0)으로 간주
+   *
+   * @return 토큰 버전
+   */
+  public long getTokenVersion() {
+    Long tokenVersion = claims != null
+        ? claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Long.class) : null;
+    return tokenVersion != null ? tokenVersion : 0L;
+  }
+
+  /**
+   * 리프레시 토큰인지 확인, 종류 클레임이 없는 이전 리프레시 토큰은 계열 ID로 판별
+   *
+   * @return 리프레시 토큰이면 true
+   */
+  public boolean isRefreshToken() {
+    return claims != null && (getFamilyId() != null
+        || JwtUtil.REFRESH_TOKEN_TYPE.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)));
+  }
+
+  public Date getExpiration() {
+    return claims != null ? claims.getExpiration() : null;
+  }
+
+  /**
+   * 현재 시각 기준으로 만료되지 않은 유효한 토큰인지 확인
+   *
+   * @return 유효하면 true
+   */
+  public boolean isUsable() {
+    Date expiration = getExpiration();
+    return valid && (expiration == null || expiration.after(new Date()));
+  }
+}
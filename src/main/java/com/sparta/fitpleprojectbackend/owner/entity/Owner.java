@@ -11,6 +11,12 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_owner_email_status", columnList = "email, owner_status"),
+    @Index(name = "idx_owner_phone_number_status",
+        columnList = "owner_phone_number, owner_status"),
+    @Index(name = "idx_owner_scheduled_deletion_date", columnList = "scheduled_deletion_date")
+})
 public class Owner extends TimeStamped {
 
   @Id
@@ -137,6 +143,29 @@ public class Owner extends TimeStamped {
     this.ownerPhoneNumber = ownerRequest.getOwnerPhoneNumber();
   }
 
+  /**
+   * 회원탈퇴 처리
+   *
+   * @param deletedAt             탈퇴일
+   * @param scheduledDeletionDate 삭제 예정일
+   */
+  public void signOut(LocalDateTime deletedAt, LocalDateTime scheduledDeletionDate) {
+    this.ownerStatus = "DELETED";
+    this.deletedAt = deletedAt;
+    this.scheduledDeletionDate = scheduledDeletionDate;
+  }
+
+  /**
+   * 탈퇴한 계정 복구
+   *
+   * @param password 새 비밀번호
+   */
+  public void restore(String password) {
+    this.password = password;
+    this.ownerStatus = "ACTIVE";
+    this.scheduledDeletionDate = null;
+  }
+
   /**
    * 비밀번호 변경
    *
@@ -2,9 +2,12 @@ package com.sparta.fitpleprojectbackend.owner.repository;
 
 import com.sparta.fitpleprojectbackend.owner.entity.Owner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,5 +29,15 @@ public interface OwnerRepository extends JpaRepository<Owner, Long> {
 
   Optional<Owner> findByOwnerPhoneNumberAndOwnerStatus(String ownerPhoneNumber, String status);
 
+  /**
+   * 회원가입 시 충돌하는 계정을 한 번에 조회
+   * 상태와 관계없이 같은 계정 ID를 쓰는 점주와, 같은 이메일 또는 전화번호를 쓰는 활성 점주를 반환
+   */
+  @Query("select o from Owner o where o.accountId = :accountId"
+      + " or ((o.email = :email or o.ownerPhoneNumber = :phoneNumber)"
+      + " and o.ownerStatus = 'ACTIVE')")
+  List<Owner> findSignupConflicts(@Param("accountId") String accountId,
+      @Param("email") String email, @Param("phoneNumber") String phoneNumber);
+
   void deleteAllByScheduledDeletionDateBefore(LocalDateTime now);
 }
\ No newline at end of file
@@ -10,12 +10,16 @@ import com.sparta.fitpleprojectbackend.owner.dto.UpdateOwnerProfileRequest;
 import com.sparta.fitpleprojectbackend.owner.entity.Owner;
 import com.sparta.fitpleprojectbackend.owner.exception.OwnerException;
 import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
+import com.sparta.fitpleprojectbackend.security.AccountIndexService;
+import com.sparta.fitpleprojectbackend.security.UserDetailsCache;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -23,10 +27,15 @@ public class OwnerService {
 
   private final OwnerRepository ownerRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserDetailsCache userDetailsCache;
+  private final AccountIndexService accountIndexService;
 
-  public OwnerService(OwnerRepository ownerRepository, PasswordEncoder passwordEncoder) {
+  public OwnerService(OwnerRepository ownerRepository, PasswordEncoder passwordEncoder,
+      UserDetailsCache userDetailsCache, AccountIndexService accountIndexService) {
     this.ownerRepository = ownerRepository;
     this.passwordEncoder = passwordEncoder;
+    this.userDetailsCache = userDetailsCache;
+    this.accountIndexService = accountIndexService;
   }
 
   /**
@@ -35,56 +44,38 @@ public class OwnerService {
    * @param request 점주 회원가입 요청 정보
    * @return 저장된 점주 정보
    */
+  @Transactional
   public Owner signup(OwnerSignupRequest request) {
     if ((request.getResidentRegistrationNumber() == null || request.getResidentRegistrationNumber().isEmpty()) &&
         (request.getForeignerRegistrationNumber() == null || request.getForeignerRegistrationNumber().isEmpty())) {
       throw new CustomException(ErrorType.INVALID_INPUT);
     }
 
-    Optional<Owner> existingOwnerByUsername = ownerRepository.findByAccountIdAndOwnerStatus(
-        request.getAccountId(), "ACTIVE");
-    Optional<Owner> existingOwnerByEmail = ownerRepository.findByEmailAndOwnerStatus(
-        request.getEmail(),
-        "ACTIVE");
-    Optional<Owner> existingOwnerByPhoneNumber = ownerRepository.findByOwnerPhoneNumberAndOwnerStatus(
-        request.getOwnerPhoneNumber(), "ACTIVE");
+    List<Owner> conflicts = ownerRepository.findSignupConflicts(request.getAccountId(),
+        request.getEmail(), request.getOwnerPhoneNumber());
 
-    if (existingOwnerByUsername.isPresent()) {
+    Optional<Owner> sameAccountId = conflicts.stream()
+        .filter(owner -> owner.getAccountId().equals(request.getAccountId()))
+        .findFirst();
+    if (sameAccountId.isPresent() && !"DELETED".equals(sameAccountId.get().getOwnerStatus())) {
       throw new CustomException(ErrorType.DUPLICATE_USERNAME);
     }
-    if (existingOwnerByEmail.isPresent()) {
+    if (conflicts.stream().anyMatch(owner -> "ACTIVE".equals(owner.getOwnerStatus())
+        && request.getEmail().equals(owner.getEmail()))) {
       throw new CustomException(ErrorType.DUPLICATE_EMAIL);
     }
-    if (existingOwnerByPhoneNumber.isPresent()) {
+    if (conflicts.stream().anyMatch(owner -> "ACTIVE".equals(owner.getOwnerStatus())
+        && request.getOwnerPhoneNumber().equals(owner.getOwnerPhoneNumber()))) {
       throw new CustomException(ErrorType.DUPLICATE_USER);
     }
-
-    Optional<Owner> deletedOwnerByUsername = ownerRepository.findByAccountIdAndOwnerStatus(
-        request.getAccountId(), "DELETED");
-    if (deletedOwnerByUsername.isPresent()) {
-      Owner owner = deletedOwnerByUsername.get();
-      Owner updatedOwner = new Owner(
-          owner.getOwnerName(),
-          owner.getResidentRegistrationNumber(),
-          owner.getForeignerRegistrationNumber(),
-          owner.getIsForeigner(),
-          owner.getAccountId(),
-          passwordEncoder.encode(request.getPassword()),
-          owner.getNickname(),
-          owner.getEmail(),
-          owner.getOwnerPicture(),
-          "ACTIVE",
-          owner.getBusinessRegistrationNumber(),
-          owner.getBusinessName(),
-          owner.getZipcode(),
-          owner.getMainAddress(),
-          owner.getDetailedAddress(),
-          owner.getOwnerPhoneNumber(),
-          owner.getRole(),
-          owner.getDeletedAt(),
-          LocalDateTime.now()
-      );
-      return ownerRepository.save(owner);
+    accountIndexService.checkAvailable(request.getAccountId(), Role.OWNER);
+
+    //탈퇴한 계정 ID로 다시 가입하면 기존 계정을 복구
+    if (sameAccountId.isPresent()) {
+      Owner owner = sameAccountId.get();
+      owner.restore(passwordEncoder.encode(request.getPassword()));
+      userDetailsCache.evict(request.getAccountId());
+      return syncAccountIndex(ownerRepository.save(owner));
     }
 
     Owner newOwner = new Owner(
@@ -109,7 +100,7 @@ public class OwnerService {
         null
     );
 
-    return ownerRepository.save(newOwner);
+    return syncAccountIndex(saveNewAccount(newOwner));
   }
 
   /**
@@ -123,28 +114,9 @@ public class OwnerService {
     Owner owner = ownerOptional.orElseThrow(() -> new CustomException(ErrorType.NOT_FOUND_USER
     ));
 
-    Owner updatedOwner = new Owner(
-        owner.getOwnerName(),
-        owner.getResidentRegistrationNumber(),
-        owner.getForeignerRegistrationNumber(),
-        owner.getIsForeigner(),
-        owner.getAccountId(),
-        owner.getPassword(),
-        owner.getNickname(),
-        owner.getEmail(),
-        owner.getOwnerPicture(),
-        "DELETED",
-        owner.getBusinessRegistrationNumber(),
-        owner.getBusinessName(),
-        owner.getZipcode(),
-        owner.getMainAddress(),
-        owner.getDetailedAddress(),
-        owner.getOwnerPhoneNumber(),
-        owner.getRole(),
-        LocalDateTime.now(),
-        LocalDateTime.now().plusDays(30)
-    );
-    ownerRepository.save(owner);
+    owner.signOut(LocalDateTime.now(), LocalDateTime.now().plusDays(30));
+    syncAccountIndex(ownerRepository.save(owner));
+    userDetailsCache.evict(username);
   }
 
   /**
@@ -175,6 +147,7 @@ public class OwnerService {
     }
 
     owner.updateOwnerProfile(ownerRequest);
+    userDetailsCache.evict(owner.getAccountId());
   }
   /**
    * 유저 비밀번호 변경
@@ -195,5 +168,22 @@ public class OwnerService {
     }
 
     owner.updatePassword(passwordEncoder.encode(ownerRequest.getNewPassword()));
+    userDetailsCache.evict(owner.getAccountId());
+    accountIndexService.bumpTokenVersion(owner.getAccountId());
+  }
+
+  private Owner saveNewAccount(Owner owner) {
+    try {
+      return ownerRepository.saveAndFlush(owner);
+    } catch (DataIntegrityViolationException e) {
+      //동시에 같은 계정 ID로 가입한 경우 유니크 제약 조건으로 차단
+      throw new CustomException(ErrorType.DUPLICATE_USERNAME);
+    }
+  }
+
+  private Owner syncAccountIndex(Owner owner) {
+    accountIndexService.sync(owner.getAccountId(), owner.getRole(), owner.getId(),
+        owner.getOwnerStatus());
+    return owner;
   }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import jakarta.transaction.Transactional;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -159,6 +160,57 @@ public class PtPaymentController {
     PtPayment approvedPayment = ptPaymentService.approvePayment(ptPaymentId, paymentType);
     return ResponseEntity.ok(approvedPayment);
   }
+
+  /**
+   * 승인된 결제 완료, 결제한 유저 본인만 가능
+   *
+   * @param userDetails 유저 정보
+   * @param ptPaymentId 결제 ID
+   * @return 완료된 결제 정보
+   */
+  @PutMapping("/{ptPaymentId}/complete")
+  public ResponseEntity<PtPayment> completePayment(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long ptPaymentId) {
+
+    ptPaymentService.checkPaymentOwner(ptPaymentId, userDetails.getUserId());
+    PtPayment completedPayment = ptPaymentService.completePayment(ptPaymentId);
+    return ResponseEntity.ok(completedPayment);
+  }
+
+  /**
+   * 완료 전 결제 실패 처리, 결제한 유저 본인만 가능
+   *
+   * @param userDetails 유저 정보
+   * @param ptPaymentId 결제 ID
+   * @return 실패 처리된 결제 정보
+   */
+  @PutMapping("/{ptPaymentId}/fail")
+  public ResponseEntity<PtPayment> failPayment(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long ptPaymentId) {
+
+    ptPaymentService.checkPaymentOwner(ptPaymentId, userDetails.getUserId());
+    PtPayment failedPayment = ptPaymentService.failPayment(ptPaymentId);
+    return ResponseEntity.ok(failedPayment);
+  }
+
+  /**
+   * 완료된 결제 환불, 결제한 유저 본인만 가능
+   *
+   * @param userDetails 유저 정보
+   * @param ptPaymentId 결제 ID
+   * @return 환불된 결제 정보
+   */
+  @PutMapping("/{ptPaymentId}/refund")
+  public ResponseEntity<PtPayment> refundPayment(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long ptPaymentId) {
+
+    ptPaymentService.checkPaymentOwner(ptPaymentId, userDetails.getUserId());
+    PtPayment refundedPayment = ptPaymentService.refundPayment(ptPaymentId);
+    return ResponseEntity.ok(refundedPayment);
+  }
 }
 
 
@@ -12,6 +12,7 @@ import com.sparta.fitpleprojectbackend.ptsesson.entity.PtPayment;
 import com.sparta.fitpleprojectbackend.ptsesson.enums.PtTimes;
 import com.sparta.fitpleprojectbackend.ptsesson.repository.PtInformationRepository;
 import com.sparta.fitpleprojectbackend.ptsesson.service.PtPaymentHttpTestService;
+import com.sparta.fitpleprojectbackend.ptsesson.service.PtReservationLocks;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
 import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
 import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
@@ -38,15 +39,18 @@ public class PtPaymentHttpTestController {
 
 
   private final PtPaymentHttpTestService ptPaymentHttpTestService;
+  private final PtReservationLocks ptReservationLocks;
   private final PtInformationRepository ptInformationRepository;
   private final TrainerRepository trainerRepository;
   private final UserRepository userRepository;
 
   public PtPaymentHttpTestController(PtPaymentHttpTestService ptPaymentHttpTestService,
+      PtReservationLocks ptReservationLocks,
       PtInformationRepository ptInformationRepository,
       TrainerRepository trainerRepository,
       UserRepository userRepository) {
     this.ptPaymentHttpTestService = ptPaymentHttpTestService;
+    this.ptReservationLocks = ptReservationLocks;
     this.ptInformationRepository = ptInformationRepository;
     this.trainerRepository = trainerRepository;
     this.userRepository = userRepository;
@@ -265,9 +269,10 @@ public class PtPaymentHttpTestController {
 //  }
 
   /**
-   * 결제를 완료하고 최종 결제 정보를 저장
+   * /save-payment로 저장한 결제를 완료하고 최종 결제 정보를 저장
+   * 결제 승인 전에 UserPt를 저장해 활성 PT를 선점하므로, 완료되면 UserPt도 함께 생성됨
    *
-   * @param request 결제 요청 정보
+   * @param request 결제 요청 정보 (저장한 결제와 PT 횟수, 금액, 회원권 여부가 같아야 함)
    * @param userId  유저 ID
    * @return 저장된 결제 정보
    * @throws CustomException 결제 처리 중 오류 발생 시
@@ -276,7 +281,8 @@ public class PtPaymentHttpTestController {
   public ResponseEntity<PtPayment> completePayment(@RequestBody PtPaymentRequest request,
       @RequestParam Long userId) {
     try {
-      PtPayment ptPayment = ptPaymentHttpTestService.completePayment(request, userId);
+      PtPayment ptPayment = ptReservationLocks.withLock(request.getTrainerId(), userId,
+          () -> ptPaymentHttpTestService.completePayment(request, userId));
       return ResponseEntity.ok(ptPayment);
     } catch (CustomException e) {
 
@@ -347,9 +353,9 @@ public class PtPaymentHttpTestController {
       @RequestParam Long userId) {
     try {
 
-      PtPayment ptPayment = ptPaymentHttpTestService.completePayment(request, userId);
-
-      ptPaymentHttpTestService.savePaymentToUserPt(ptPayment);
+      //같은 유저와 트레이너의 동시 구매는 한 번에 하나씩 처리 (결제와 UserPt 저장은 completePayment의 한 트랜잭션)
+      PtPayment ptPayment = ptReservationLocks.withLock(request.getTrainerId(), userId,
+          () -> ptPaymentHttpTestService.completePayment(request, userId));
 
       String message = ptPaymentHttpTestService.PaymentCompletePage(ptPayment);
 
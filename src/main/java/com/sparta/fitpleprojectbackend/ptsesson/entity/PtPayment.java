@@ -16,9 +16,13 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.Getter;
 
+/**
+ * PT 결제, 상태는 새 행을 만들지 않고 같은 행에서 PaymentStatus의 전이 규칙에 따라 변경
+ */
 @Getter
 @Entity
 public class PtPayment extends TimeStamped {
@@ -59,6 +63,10 @@ public class PtPayment extends TimeStamped {
   @Column
   private boolean isMembership;
 
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   protected PtPayment() {
   }
 
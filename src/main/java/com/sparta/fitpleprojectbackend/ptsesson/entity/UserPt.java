@@ -14,13 +14,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 
+/**
+ * 유저가 구매한 PT
+ * 같은 유저와 트레이너 사이의 활성 PT는 DB의 uk_user_pt_active(생성 컬럼 active_trainer_id)로 하나만 허용
+ */
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_user_pt_trainer_user_active",
+    columnList = "trainer_id, user_id, is_active"))
 public class UserPt extends TimeStamped {
 
   @Id
@@ -1,12 +1,33 @@
 package com.sparta.fitpleprojectbackend.ptsesson.enums;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.Set;
 
+/**
+ * 결제 상태
+ * PENDING → APPROVED → COMPLETED → REFUNDED 순서로 진행하며, 완료 전에는 FAILED 또는 CANCELED로 끝날 수 있음
+ */
 @JsonFormat(shape = JsonFormat.Shape.STRING)
 public enum PaymentStatus {
   PENDING,
   COMPLETED,
   FAILED,
   CANCELED,
-  APPROVED
+  APPROVED,
+  REFUNDED;
+
+  /**
+   * 현재 상태에서 다음 상태로 전이할 수 있는지 확인
+   *
+   * @param next 다음 상태
+   * @return 전이할 수 있으면 true
+   */
+  public boolean canTransitionTo(PaymentStatus next) {
+    return switch (this) {
+      case PENDING -> Set.of(APPROVED, FAILED, CANCELED).contains(next);
+      case APPROVED -> Set.of(COMPLETED, FAILED, CANCELED).contains(next);
+      case COMPLETED -> next == REFUNDED;
+      case FAILED, CANCELED, REFUNDED -> false;
+    };
+  }
 }
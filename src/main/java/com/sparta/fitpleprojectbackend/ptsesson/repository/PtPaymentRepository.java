@@ -1,10 +1,45 @@
 package com.sparta.fitpleprojectbackend.ptsesson.repository;
 
 import com.sparta.fitpleprojectbackend.ptsesson.entity.PtPayment;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentStatus;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentType;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PtTimes;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PtPaymentRepository extends JpaRepository<PtPayment, Long> {
 
+  /**
+   * 유저와 트레이너 쌍의 결제 중 PT 횟수, 금액, 회원권 여부와 상태가 모두 일치하는 가장 최근 결제 조회
+   */
+  @Query("select p from PtPayment p"
+      + " where p.trainer.id = :trainerId and p.user.id = :userId and p.ptTimes = :ptTimes"
+      + " and p.amount = :amount and p.isMembership = :isMembership"
+      + " and p.paymentStatus = :paymentStatus"
+      + " order by p.id desc limit 1")
+  Optional<PtPayment> findLatestMatchingPayment(@Param("trainerId") Long trainerId,
+      @Param("userId") Long userId, @Param("ptTimes") PtTimes ptTimes,
+      @Param("amount") double amount, @Param("isMembership") boolean isMembership,
+      @Param("paymentStatus") PaymentStatus paymentStatus);
+
+  /**
+   * 결제가 아직 current 상태일 때만 next 상태로 변경 (한 번의 UPDATE로 확인과 변경을 함께 처리)
+   * paymentType이 null이면 결제 수단은 그대로 유지
+   *
+   * @return 변경된 행 수, 이미 다른 요청이 상태를 바꿨다면 0
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update PtPayment p set p.paymentStatus = :next,"
+      + " p.paymentType = coalesce(:paymentType, p.paymentType),"
+      + " p.version = p.version + 1, p.updatedAt = :now"
+      + " where p.id = :id and p.paymentStatus = :current")
+  int transitionStatus(@Param("id") Long id, @Param("current") PaymentStatus current,
+      @Param("next") PaymentStatus next, @Param("paymentType") PaymentType paymentType,
+      @Param("now") LocalDateTime now);
 }
@@ -21,10 +21,10 @@ import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -38,16 +38,18 @@ public class PtPaymentHttpTestService {
   private final UserRepository userRepository;
   private final UserPtRepository userPtRepository;
   private final PtInformationRepository ptInformationRepository;
+  private final PtPaymentService ptPaymentService;
 
   public PtPaymentHttpTestService(PtPaymentRepository ptPaymentRepository,
       TrainerRepository trainerRepository,
       UserRepository userRepository, UserPtRepository userPtRepository,
-      PtInformationRepository ptInformationRepository) {
+      PtInformationRepository ptInformationRepository, PtPaymentService ptPaymentService) {
     this.ptPaymentRepository = ptPaymentRepository;
     this.trainerRepository = trainerRepository;
     this.userRepository = userRepository;
     this.userPtRepository = userPtRepository;
     this.ptInformationRepository = ptInformationRepository;
+    this.ptPaymentService = ptPaymentService;
   }
 
   /**
@@ -106,10 +108,7 @@ public class PtPaymentHttpTestService {
    * @throws CustomException 중복 결제 기록이 있는 경우
    */
   public void checkDuplicatePt(Long trainerId, Long userId) {
-    List<UserPt> existingPayments = userPtRepository.findAllByTrainerIdAndUserIdAndIsActive(
-        trainerId, userId, true);
-
-    if (!existingPayments.isEmpty()) {
+    if (userPtRepository.existsByTrainerIdAndUserIdAndIsActive(trainerId, userId, true)) {
       logger.error("중복 결제: 트레이너 ID, 유저 ID", trainerId, userId);
       throw new CustomException(ErrorType.RESERVATION_CONFLICT);
     }
@@ -297,11 +296,17 @@ public class PtPaymentHttpTestService {
 
   /**
    * 결제를 완료 최종 결제 정보를 저장
+   * 결제 요청 전 저장한 PENDING 결제 중 요청의 PT 횟수, 금액, 회원권 여부가 일치하는 결제를 새 행 없이
+   * APPROVED, COMPLETED 순으로 전이
+   * UserPt를 먼저 저장해 유저와 트레이너 쌍의 활성 PT를 선점한 뒤 결제를 승인하고, 결제 정보와 UserPt를 한
+   * 트랜잭션으로 커밋 (다른 노드가 먼저 선점했다면 승인 전에 RESERVATION_CONFLICT로 끝나고, 승인이 실패하면
+   * 선점한 UserPt도 롤백)
    *
    * @param request 결제 요청 정보
    * @param userId  유저 ID
-   * @return 저장된 결제 정보
-   * @throws CustomException 결제 처리 중 오류 발생 시
+   * @return 완료된 결제 정보
+   * @throws CustomException 요청과 일치하는 PENDING 결제가 없거나, 이미 활성 PT가 있거나, 결제 처리 중
+   *                         오류 발생 시
    */
   @Transactional
   public PtPayment completePayment(PtPaymentRequest request, Long userId) {
@@ -311,17 +316,32 @@ public class PtPaymentHttpTestService {
       validateTrainerAndUser(request.getTrainerId(), userId);
       checkDuplicatePt(request.getTrainerId(), userId);
 
-      Trainer trainer = trainerRepository.findById(request.getTrainerId())
-          .orElseThrow(() -> new CustomException(ErrorType.TRAINER_NOT_FOUND));
-
-      double totalAmount = 600;
+      //다른 횟수, 금액으로 남아 있는 PENDING 결제를 대신 완료하지 않도록 요청 내용으로 결제를 특정
+      PtPayment ptPayment = ptPaymentRepository.findLatestMatchingPayment(request.getTrainerId(),
+              userId, request.getPtTimes(), request.getAmount(), request.isMembership(),
+              PaymentStatus.PENDING)
+          .orElseThrow(() -> new CustomException(ErrorType.PAYMENT_NOT_FOUND));
+
+      //승인 전에 활성 PT를 선점, 유니크 인덱스 충돌이면 결제하지 않고 종료
+      saveUserPt(new UserPt(
+          ptPayment.getTrainer(),
+          ptPayment.getUser(),
+          ptPayment.getPtTimes(),
+          request.getPaymentType(),
+          ptPayment.getAmount(),
+          PaymentStatus.COMPLETED,
+          ptPayment.getPaymentDate(),
+          ptPayment.getExpiryDate(),
+          ptPayment.isMembership(),
+          true
+      ));
 
       boolean paymentApproved = false;
       int attempt = 0;
 
       while (attempt < MAX_RETRY_ATTEMPTS && !paymentApproved) {
         try {
-          paymentApproved = approvePayment(userId, totalAmount);
+          paymentApproved = approvePayment(userId, ptPayment.getAmount());
         } catch (Exception e) {
           attempt++;
           logger.error("실패 재시도 중... 시도 횟수: ", attempt, e);
@@ -337,24 +357,15 @@ public class PtPaymentHttpTestService {
         throw new CustomException(ErrorType.PAYMENT_APPROVAL_FAILED);
       }
 
-      PtPayment ptPayment = new PtPayment(
-          trainer,
-          userRepository.findById(userId)
-              .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND)),
-          request.getPtTimes(),
-          request.getPaymentType(),
-          totalAmount,
-          PaymentStatus.COMPLETED,
-          LocalDateTime.now(),
-          LocalDateTime.now().plusDays(request.getPtTimes().getTimes() / 30),
-          request.isMembership()
-      );
+      ptPaymentService.approvePayment(ptPayment.getId(), request.getPaymentType());
+      PtPayment completedPayment = ptPaymentService.completePayment(ptPayment.getId());
 
-      PtPayment savedPayment = ptPaymentRepository.save(ptPayment);
+      logger.info("결제 완료 및 저장 완료: ", completedPayment);
 
-      logger.info("결제 완료 및 저장 완료: ", savedPayment);
+      return completedPayment;
+    } catch (CustomException e) {
 
-      return savedPayment;
+      throw e;
     } catch (Exception e) {
 
       throw new CustomException(ErrorType.PAYMENT_FAILED);
@@ -394,7 +405,16 @@ public class PtPaymentHttpTestService {
         ptPayment.isMembership(),
         true
     );
-    userPtRepository.save(userPt);
+    saveUserPt(userPt);
+  }
+
+  private void saveUserPt(UserPt userPt) {
+    try {
+      userPtRepository.saveAndFlush(userPt);
+    } catch (DataIntegrityViolationException e) {
+      //다른 노드에서 같은 쌍의 PT가 먼저 저장된 경우 유니크 인덱스로 차단
+      throw new CustomException(ErrorType.RESERVATION_CONFLICT);
+    }
   }
 
   /**
@@ -7,7 +7,6 @@ import com.sparta.fitpleprojectbackend.ptsesson.dto.PtPaymentRequest;
 import com.sparta.fitpleprojectbackend.ptsesson.dto.PtPaymentValidateRequest;
 import com.sparta.fitpleprojectbackend.ptsesson.entity.PtInfomation;
 import com.sparta.fitpleprojectbackend.ptsesson.entity.PtPayment;
-import com.sparta.fitpleprojectbackend.ptsesson.entity.UserPt;
 import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentStatus;
 import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentType;
 import com.sparta.fitpleprojectbackend.ptsesson.enums.PtTimes;
@@ -21,7 +20,6 @@ import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,10 +97,7 @@ public class PtPaymentService {
    * @throws CustomException 중복 결제 기록이 있는 경우
    */
   public void checkDuplicatePt(Long trainerId, Long userId) {
-    List<UserPt> existingPayments = userPtRepository.findAllByTrainerIdAndUserIdAndIsActive(
-        trainerId, userId, true);
-
-    if (!existingPayments.isEmpty()) {
+    if (userPtRepository.existsByTrainerIdAndUserIdAndIsActive(trainerId, userId, true)) {
       throw new CustomException(ErrorType.RESERVATION_CONFLICT);
     }
   }
@@ -220,22 +215,85 @@ public class PtPaymentService {
         throw new IllegalArgumentException("지원하지 않는 결제 수단입니다: " + paymentType);
     }
 
+    return transition(ptPaymentId, PaymentStatus.APPROVED, paymentType);
+  }
+
+  /**
+   * 결제한 유저 본인인지 확인
+   *
+   * @param ptPaymentId 결제 ID
+   * @param userId      요청한 유저 ID
+   * @throws CustomException 결제가 없거나 다른 유저의 결제인 경우
+   */
+  public void checkPaymentOwner(Long ptPaymentId, Long userId) {
     PtPayment ptPayment = ptPaymentRepository.findById(ptPaymentId)
         .orElseThrow(() -> new CustomException(ErrorType.PAYMENT_NOT_FOUND));
 
-    PtPayment approvedPayment = new PtPayment(
-        ptPayment.getTrainer(),
-        ptPayment.getUser(),
-        ptPayment.getPtTimes(),
-        ptPayment.getPaymentType(),
-        ptPayment.getAmount(),
-        PaymentStatus.APPROVED,
-        ptPayment.getPaymentDate(),
-        ptPayment.getExpiryDate(),
-        ptPayment.isMembership()
-    );
+    if (!ptPayment.getUser().getId().equals(userId)) {
+      throw new CustomException(ErrorType.PAYMENT_FORBIDDEN);
+    }
+  }
+
+  /**
+   * 승인된 결제를 완료 상태로 변경
+   *
+   * @param ptPaymentId 결제 ID
+   * @return 완료된 결제 정보
+   */
+  @Transactional
+  public PtPayment completePayment(Long ptPaymentId) {
+    return transition(ptPaymentId, PaymentStatus.COMPLETED, null);
+  }
 
-    return ptPaymentRepository.save(approvedPayment);
+  /**
+   * 완료 전 결제를 실패 상태로 변경
+   *
+   * @param ptPaymentId 결제 ID
+   * @return 실패 처리된 결제 정보
+   */
+  @Transactional
+  public PtPayment failPayment(Long ptPaymentId) {
+    return transition(ptPaymentId, PaymentStatus.FAILED, null);
+  }
+
+  /**
+   * 완료된 결제를 환불 상태로 변경
+   *
+   * @param ptPaymentId 결제 ID
+   * @return 환불된 결제 정보
+   */
+  @Transactional
+  public PtPayment refundPayment(Long ptPaymentId) {
+    return transition(ptPaymentId, PaymentStatus.REFUNDED, null);
+  }
+
+  /**
+   * 결제 상태를 전이 규칙에 따라 같은 행에서 변경
+   * 조회한 상태를 조건으로 UPDATE하므로, 그 사이 다른 요청이 상태를 바꿨다면 변경하지 않고 실패
+   *
+   * @param ptPaymentId 결제 ID
+   * @param next        다음 상태
+   * @param paymentType 함께 기록할 결제 수단, 바꾸지 않으면 null
+   * @return 변경된 결제 정보
+   * @throws CustomException 결제가 없거나 전이할 수 없는 상태인 경우
+   */
+  private PtPayment transition(Long ptPaymentId, PaymentStatus next, PaymentType paymentType) {
+    PtPayment ptPayment = ptPaymentRepository.findById(ptPaymentId)
+        .orElseThrow(() -> new CustomException(ErrorType.PAYMENT_NOT_FOUND));
+
+    PaymentStatus current = ptPayment.getPaymentStatus();
+    if (current == null || !current.canTransitionTo(next)) {
+      throw new CustomException(ErrorType.INVALID_PAYMENT_STATUS);
+    }
+
+    int updated = ptPaymentRepository.transitionStatus(ptPaymentId, current, next, paymentType,
+        LocalDateTime.now());
+    if (updated == 0) {
+      throw new CustomException(ErrorType.INVALID_PAYMENT_STATUS);
+    }
+
+    return ptPaymentRepository.findById(ptPaymentId)
+        .orElseThrow(() -> new CustomException(ErrorType.PAYMENT_NOT_FOUND));
   }
 }
 
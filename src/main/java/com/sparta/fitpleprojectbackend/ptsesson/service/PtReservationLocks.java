@@ -0,0 +1,43 @@
+package com.sparta.fitpleprojectbackend.ptsesson.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저와 트레이너 쌍별 PT 구매 잠금
+ * 쌍마다 잠금을 만들지 않고 고정 개수의 잠금에 해시로 나눠 담아, 같은 쌍의 중복 확인부터 저장까지를
+ * 한 노드 안에서 직렬화 (노드 간 중복은 user_pt의 유니크 인덱스로 차단)
+ */
+@Component
+public class PtReservationLocks {
+
+  private static final int STRIPES = 64;
+
+  private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+  public PtReservationLocks() {
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * 유저와 트레이너 쌍의 잠금을 잡고 작업 실행
+   *
+   * @param trainerId 트레이너 ID
+   * @param userId    유저 ID
+   * @param task      실행할 작업
+   * @return 작업 결과
+   */
+  public <T> T withLock(Long trainerId, Long userId, Supplier<T> task) {
+    ReentrantLock lock = locks[Math.floorMod(31 * trainerId.hashCode() + userId.hashCode(),
+        STRIPES)];
+    lock.lock();
+    try {
+      return task.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.sparta.fitpleprojectbackend.jwtutil.JwtUtil;
+import com.sparta.fitpleprojectbackend.jwtutil.ParsedToken;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃된 액세스 토큰을 jti 기준으로 폐기하는 저장소
+ * 폐기되지 않은 대부분의 토큰은 로컬 블룸 필터에서 바로 걸러져 Redis를 조회하지 않음
+ */
+@Slf4j
+@Service
+public class AccessTokenDenylist {
+
+  private static final String KEY_PREFIX = "denylist:";
+  private static final String CHANNEL = "token-denylist";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final RevokedTokenBloomFilter bloomFilter;
+
+  public AccessTokenDenylist(RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer, JwtUtil jwtUtil,
+      @Value("${jwt.denylist.bloom-bits:1048576}") int bloomBits) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.bloomFilter = new RevokedTokenBloomFilter(bloomBits, jwtUtil.getAccessTokenValidity());
+  }
+
+  /**
+   * 다른 노드의 폐기 이벤트를 구독하고, 이미 폐기된 토큰 ID로 블룸 필터를 채움
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> bloomFilter.put(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(CHANNEL));
+
+    ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(key -> bloomFilter.put(key.substring(KEY_PREFIX.length())));
+    } catch (Exception e) {
+      log.warn("토큰 폐기 목록을 불러오지 못했습니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 토큰을 남은 유효기간 동안 폐기 처리
+   *
+   * @param parsedToken 폐기할 토큰
+   */
+  public void revoke(ParsedToken parsedToken) {
+    String tokenId = parsedToken.getId();
+    if (tokenId == null || parsedToken.getExpiration() == null) {
+      return;
+    }
+    long remainingMillis = parsedToken.getExpiration().getTime() - System.currentTimeMillis();
+    if (remainingMillis <= 0) {
+      return;
+    }
+    redisTemplate.opsForValue()
+        .set(KEY_PREFIX + tokenId, "1", remainingMillis, TimeUnit.MILLISECONDS);
+    bloomFilter.put(tokenId);
+    redisTemplate.convertAndSend(CHANNEL, tokenId);
+  }
+
+  /**
+   * 폐기된 토큰인지 확인
+   *
+   * @param parsedToken 확인할 토큰
+   * @return 폐기된 토큰이면 true
+   */
+  public boolean isRevoked(ParsedToken parsedToken) {
+    String tokenId = parsedToken.getId();
+    if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+  }
+}
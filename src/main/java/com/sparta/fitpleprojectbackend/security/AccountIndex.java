@@ -0,0 +1,66 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.sparta.fitpleprojectbackend.common.TimeStamped;
+import com.sparta.fitpleprojectbackend.enums.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아이디로 사용자/점주/트레이너를 한 번에 찾기 위한 통합 계정 인덱스
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+public class AccountIndex extends TimeStamped {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 15, unique = true)
+  private String accountId; // 아이디
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private Role role; // 권한
+
+  @Column(nullable = false)
+  private Long entityId; // 역할별 테이블의 ID
+
+  @Column(nullable = false, length = 10)
+  private String status; // 계정 상태
+
+  @Column(nullable = false)
+  private Long tokenVersion = 0L; // 액세스 토큰 버전 (비밀번호 변경, 탈퇴 시 증가)
+
+  public AccountIndex(String accountId, Role role, Long entityId, String status) {
+    this.accountId = accountId;
+    this.role = role;
+    this.entityId = entityId;
+    this.status = status;
+  }
+
+  public void update(Role role, Long entityId, String status) {
+    if (!status.equals(this.status)) {
+      bumpTokenVersion();
+    }
+    this.role = role;
+    this.entityId = entityId;
+    this.status = status;
+  }
+
+  public void bumpTokenVersion() {
+    this.tokenVersion = tokenVersion + 1;
+  }
+
+  public boolean isActive() {
+    return "ACTIVE".equals(status);
+  }
+}
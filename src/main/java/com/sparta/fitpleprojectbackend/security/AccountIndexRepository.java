@@ -0,0 +1,11 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountIndexRepository extends JpaRepository<AccountIndex, Long> {
+
+  Optional<AccountIndex> findByAccountId(String accountId);
+}
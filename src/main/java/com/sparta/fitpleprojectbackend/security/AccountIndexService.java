@@ -0,0 +1,149 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.owner.entity.Owner;
+import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
+import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import com.sparta.fitpleprojectbackend.user.entity.User;
+import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
+import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AccountIndexService {
+
+  private final AccountIndexRepository accountIndexRepository;
+  private final UserRepository userRepository;
+  private final OwnerRepository ownerRepository;
+  private final TrainerRepository trainerRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public AccountIndexService(AccountIndexRepository accountIndexRepository,
+      UserRepository userRepository, OwnerRepository ownerRepository,
+      TrainerRepository trainerRepository, ApplicationEventPublisher eventPublisher) {
+    this.accountIndexRepository = accountIndexRepository;
+    this.userRepository = userRepository;
+    this.ownerRepository = ownerRepository;
+    this.trainerRepository = trainerRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * 아이디가 다른 역할의 계정에서 이미 쓰이고 있는지 확인 (회원가입 시 호출)
+   * 아이디는 사용자, 점주, 트레이너 테이블 전체에서 하나의 계정만 가질 수 있음
+   *
+   * @param accountId 아이디
+   * @param role      가입하려는 권한
+   * @throws CustomException 다른 역할의 계정이 같은 아이디를 쓰고 있는 경우
+   */
+  @Transactional
+  public void checkAvailable(String accountId, Role role) {
+    if (resolve(accountId).filter(accountIndex -> accountIndex.getRole() != role).isPresent()) {
+      throw new CustomException(ErrorType.DUPLICATE_USERNAME);
+    }
+  }
+
+  /**
+   * 계정 인덱스 등록 또는 갱신 (회원가입, 탈퇴, 재가입 시 호출)
+   * 다른 역할의 계정이 같은 아이디로 등록되어 있으면 덮어쓰지 않고 실패하며, 동시에 다른 역할로 가입한 경우는
+   * account_index의 유니크 키로 차단 (가입 트랜잭션 전체가 롤백됨)
+   *
+   * @param accountId 아이디
+   * @param role      권한
+   * @param entityId  역할별 테이블의 ID
+   * @param status    계정 상태
+   * @throws CustomException 다른 역할의 계정이 같은 아이디를 쓰고 있는 경우
+   */
+  @Transactional
+  public void sync(String accountId, Role role, Long entityId, String status) {
+    Optional<AccountIndex> indexOptional = accountIndexRepository.findByAccountId(accountId);
+    if (indexOptional.isPresent()) {
+      AccountIndex accountIndex = indexOptional.get();
+      if (accountIndex.getRole() != role) {
+        throw new CustomException(ErrorType.DUPLICATE_USERNAME);
+      }
+      long previousVersion = accountIndex.getTokenVersion();
+      accountIndex.update(role, entityId, status);
+      if (accountIndex.getTokenVersion() != previousVersion) {
+        eventPublisher.publishEvent(
+            new TokenVersionBumpedEvent(accountId, accountIndex.getTokenVersion()));
+      }
+      return;
+    }
+    try {
+      accountIndexRepository.saveAndFlush(new AccountIndex(accountId, role, entityId, status));
+    } catch (DataIntegrityViolationException e) {
+      //다른 역할로 같은 아이디가 동시에 가입한 경우 uk_account_index_account_id로 차단
+      throw new CustomException(ErrorType.DUPLICATE_USERNAME);
+    }
+  }
+
+  /**
+   * 토큰 버전을 올려 이전에 발급된 액세스 토큰을 폐기 (비밀번호 변경 시 호출)
+   *
+   * @param accountId 아이디
+   */
+  @Transactional
+  public void bumpTokenVersion(String accountId) {
+    resolve(accountId).ifPresent(accountIndex -> {
+      accountIndex.bumpTokenVersion();
+      eventPublisher.publishEvent(
+          new TokenVersionBumpedEvent(accountId, accountIndex.getTokenVersion()));
+    });
+  }
+
+  /**
+   * 아이디로 계정 인덱스 조회, 인덱스가 없는 기존 계정은 역할별 테이블에서 찾아 인덱스를 채움
+   *
+   * @param accountId 아이디
+   * @return 계정 인덱스
+   */
+  @Transactional
+  public Optional<AccountIndex> resolve(String accountId) {
+    Optional<AccountIndex> indexOptional = accountIndexRepository.findByAccountId(accountId);
+    if (indexOptional.isPresent()) {
+      return indexOptional;
+    }
+
+    Optional<User> userOptional = userRepository.findByAccountId(accountId);
+    if (userOptional.isPresent()) {
+      User user = userOptional.get();
+      return Optional.of(accountIndexRepository.save(
+          new AccountIndex(accountId, user.getRole(), user.getId(), user.getStatus())));
+    }
+
+    Optional<Owner> ownerOptional = ownerRepository.findByAccountId(accountId);
+    if (ownerOptional.isPresent()) {
+      Owner owner = ownerOptional.get();
+      return Optional.of(accountIndexRepository.save(
+          new AccountIndex(accountId, owner.getRole(), owner.getId(), owner.getOwnerStatus())));
+    }
+
+    Optional<Trainer> trainerOptional = trainerRepository.findByAccountId(accountId);
+    if (trainerOptional.isPresent()) {
+      Trainer trainer = trainerOptional.get();
+      return Optional.of(accountIndexRepository.save(
+          new AccountIndex(accountId, trainer.getRole(), trainer.getId(),
+              trainer.getTrainerStatus())));
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * 활성 상태인 계정 인덱스 조회
+   *
+   * @param accountId 아이디
+   * @return 활성 계정 인덱스, 탈퇴했거나 없으면 empty
+   */
+  @Transactional
+  public Optional<AccountIndex> findActive(String accountId) {
+    return resolve(accountId).filter(AccountIndex::isActive);
+  }
+}
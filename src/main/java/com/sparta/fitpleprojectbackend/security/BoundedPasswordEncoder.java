@@ -0,0 +1,156 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt 해싱을 전용 스레드 풀에서 수행하는 비밀번호 인코더
+ * 동시에 해싱하는 수를 코어 수로 제한하고, 대기열이 가득 차면 즉시 거절해 요청 스레드가 쌓이지 않게 함
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+  private final BCryptPasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.timeout = timeout;
+  }
+
+  /**
+   * 해싱 한 번이 목표 시간에 가장 가깝게 걸리는 비용 계수를 측정
+   * 최소 비용에서 시작해 목표 시간을 넘기 전까지 비용을 1씩 올림 (비용 1 증가 시 시간은 약 2배)
+   *
+   * @param minStrength 최소 비용 계수
+   * @param maxStrength 최대 비용 계수
+   * @param target      해싱 한 번의 목표 시간
+   * @return 측정된 비용 계수
+   */
+  public static int calibrateStrength(int minStrength, int maxStrength, Duration target) {
+    int strength = minStrength;
+    measure(strength); //JIT 워밍업
+    long elapsedNanos = measure(strength);
+    while (strength < maxStrength && elapsedNanos * 2 <= target.toNanos()) {
+      strength++;
+      elapsedNanos = measure(strength);
+    }
+    log.info("BCrypt 비용 계수 {} 선택 (해싱 {}ms, 목표 {}ms)", strength,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), target.toMillis());
+    return strength;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * 해싱 대기열에 쌓인 작업 수
+   */
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * 현재 해싱 중인 작업 수
+   */
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  /**
+   * 대기열이 가득 차거나 시간 초과로 거절된 작업 수
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      reject("대기열 초과");
+      throw new CustomException(ErrorType.PASSWORD_HASHING_BUSY);
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      reject("시간 초과");
+      throw new CustomException(ErrorType.PASSWORD_HASHING_BUSY);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorType.PASSWORD_HASHING_BUSY);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void reject(String reason) {
+    rejectedCount.incrementAndGet();
+    log.warn("비밀번호 해싱 거절 ({}): 처리 중 {}, 대기 {}", reason, executor.getActiveCount(),
+        executor.getQueue().size());
+  }
+
+  private static long measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long start = System.nanoTime();
+    encoder.encode(CALIBRATION_PASSWORD);
+    return System.nanoTime() - start;
+  }
+
+  private static class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
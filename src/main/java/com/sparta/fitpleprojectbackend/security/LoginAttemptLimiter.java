@@ -0,0 +1,206 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 계정 ID와 클라이언트 IP별 로그인 실패 횟수를 슬라이딩 윈도우로 제한
+ * 실패 시각을 Redis 정렬 집합에 기록하고, 한도를 넘긴 대상은 로컬 캐시에도 차단 기한을 저장해
+ * 이후 요청은 Redis와 비밀번호 해싱을 거치지 않고 바로 거절
+ */
+@Slf4j
+@Service
+public class LoginAttemptLimiter {
+
+  private static final String ACCOUNT_KEY_PREFIX = "login-limit:account:";
+  private static final String IP_KEY_PREFIX = "login-limit:ip:";
+
+  /**
+   * 윈도우가 지난 기록을 지운 뒤 실패 횟수가 한도 이상이면 차단이 풀리기까지 남은 시간(ms), 아니면 0
+   */
+  private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', tonumber(ARGV[1]) - tonumber(ARGV[2])) "
+          + "local count = redis.call('ZCARD', KEYS[1]) "
+          + "local limit = tonumber(ARGV[3]) "
+          + "if count < limit then return 0 end "
+          + "local entry = redis.call('ZRANGE', KEYS[1], count - limit, count - limit, "
+          + "'WITHSCORES') "
+          + "return tonumber(entry[2]) + tonumber(ARGV[2]) - tonumber(ARGV[1])",
+      Long.class);
+
+  /**
+   * 실패를 기록하고 CHECK_SCRIPT와 같은 방식으로 남은 차단 시간(ms) 반환
+   */
+  private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', tonumber(ARGV[1]) - tonumber(ARGV[2])) "
+          + "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4]) "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+          + "local count = redis.call('ZCARD', KEYS[1]) "
+          + "local limit = tonumber(ARGV[3]) "
+          + "if count < limit then return 0 end "
+          + "local entry = redis.call('ZRANGE', KEYS[1], count - limit, count - limit, "
+          + "'WITHSCORES') "
+          + "return tonumber(entry[2]) + tonumber(ARGV[2]) - tonumber(ARGV[1])",
+      Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final boolean enabled;
+  private final int accountMaxFailures;
+  private final Duration accountWindow;
+  private final int ipMaxFailures;
+  private final Duration ipWindow;
+
+  /**
+   * 키별 차단 기한(epoch ms), 한도를 넘긴 대상만 기록됨
+   */
+  private final Cache<String, Long> blockedUntil;
+
+  private final AtomicLong locallyRejected = new AtomicLong();
+  private final AtomicLong remotelyRejected = new AtomicLong();
+  private final AtomicLong recordedFailures = new AtomicLong();
+
+  public LoginAttemptLimiter(RedisTemplate<String, String> redisTemplate,
+      @Value("${security.login-limit.enabled:true}") boolean enabled,
+      @Value("${security.login-limit.account.max-failures:5}") int accountMaxFailures,
+      @Value("${security.login-limit.account.window:15m}") Duration accountWindow,
+      @Value("${security.login-limit.ip.max-failures:50}") int ipMaxFailures,
+      @Value("${security.login-limit.ip.window:15m}") Duration ipWindow,
+      @Value("${security.login-limit.local-cache.maximum-size:100000}") long maximumSize) {
+    this.redisTemplate = redisTemplate;
+    this.enabled = enabled;
+    this.accountMaxFailures = accountMaxFailures;
+    this.accountWindow = accountWindow;
+    this.ipMaxFailures = ipMaxFailures;
+    this.ipWindow = ipWindow;
+    this.blockedUntil = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(accountWindow.compareTo(ipWindow) > 0 ? accountWindow : ipWindow)
+        .build();
+  }
+
+  /**
+   * 로그인 시도 전 차단 여부 확인, 비밀번호 검증보다 먼저 호출
+   *
+   * @param accountId 로그인 아이디
+   * @param clientIp  클라이언트 IP
+   * @return 차단된 경우 남은 시간(ms), 허용되면 0
+   */
+  public long checkBlocked(String accountId, String clientIp) {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    String accountKey = ACCOUNT_KEY_PREFIX + accountId;
+    String ipKey = IP_KEY_PREFIX + clientIp;
+
+    long localRetryAfter = Math.max(localRetryAfter(accountKey, now), localRetryAfter(ipKey, now));
+    if (localRetryAfter > 0) {
+      locallyRejected.incrementAndGet();
+      return localRetryAfter;
+    }
+
+    long retryAfter = Math.max(
+        run(CHECK_SCRIPT, accountKey, now, accountWindow, accountMaxFailures, ""),
+        run(CHECK_SCRIPT, ipKey, now, ipWindow, ipMaxFailures, ""));
+    if (retryAfter > 0) {
+      remotelyRejected.incrementAndGet();
+    }
+    return retryAfter;
+  }
+
+  /**
+   * 로그인 실패 기록
+   *
+   * @param accountId 로그인 아이디
+   * @param clientIp  클라이언트 IP
+   */
+  public void recordFailure(String accountId, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    String member = now + ":" + UUID.randomUUID();
+    recordedFailures.incrementAndGet();
+    long accountRetryAfter = run(RECORD_SCRIPT, ACCOUNT_KEY_PREFIX + accountId, now,
+        accountWindow, accountMaxFailures, member);
+    long ipRetryAfter = run(RECORD_SCRIPT, IP_KEY_PREFIX + clientIp, now, ipWindow,
+        ipMaxFailures, member);
+    if (accountRetryAfter > 0 || ipRetryAfter > 0) {
+      log.warn("로그인 시도 차단: 계정 {} {}ms, IP {} {}ms", accountId, accountRetryAfter, clientIp,
+          ipRetryAfter);
+    }
+  }
+
+  /**
+   * 로그인 성공 시 계정의 실패 기록 초기화, IP 기록은 다른 계정의 실패도 포함하므로 유지
+   *
+   * @param accountId 로그인 아이디
+   */
+  public void recordSuccess(String accountId) {
+    if (!enabled) {
+      return;
+    }
+    String accountKey = ACCOUNT_KEY_PREFIX + accountId;
+    blockedUntil.invalidate(accountKey);
+    try {
+      redisTemplate.delete(accountKey);
+    } catch (Exception e) {
+      log.warn("로그인 실패 기록을 초기화하지 못했습니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 로컬 캐시에서 바로 거절된 시도 수
+   */
+  public long getLocallyRejected() {
+    return locallyRejected.get();
+  }
+
+  /**
+   * Redis 조회 후 거절된 시도 수
+   */
+  public long getRemotelyRejected() {
+    return remotelyRejected.get();
+  }
+
+  /**
+   * 기록된 로그인 실패 수
+   */
+  public long getRecordedFailures() {
+    return recordedFailures.get();
+  }
+
+  private long localRetryAfter(String key, long now) {
+    Long until = blockedUntil.getIfPresent(key);
+    return until != null && until > now ? until - now : 0;
+  }
+
+  private long run(RedisScript<Long> script, String key, long now, Duration window, int limit,
+      String member) {
+    Long retryAfter;
+    try {
+      retryAfter = redisTemplate.execute(script, List.of(key), String.valueOf(now),
+          String.valueOf(window.toMillis()), String.valueOf(limit), member);
+    } catch (Exception e) {
+      //Redis 장애 시 로그인 자체를 막지 않도록 허용
+      log.warn("로그인 시도 제한을 확인하지 못했습니다: {}", e.getMessage());
+      return 0;
+    }
+
+    if (retryAfter == null || retryAfter <= 0) {
+      return 0;
+    }
+    blockedUntil.put(key, now + retryAfter);
+    return retryAfter;
+  }
+}
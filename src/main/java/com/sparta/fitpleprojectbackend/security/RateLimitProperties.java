@@ -0,0 +1,66 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 속도 제한 설정 (security.rate-limit.*)
+ * 경로 규칙은 선언 순서대로 비교하며, 맞는 규칙이 없으면 기본 규칙 적용
+ */
+@Getter
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+  private final boolean enabled;
+
+  private final Rule defaultRule;
+
+  private final List<Route> routes;
+
+  private final long maximumBuckets;
+
+  private final boolean clusterEnabled;
+
+  public RateLimitProperties(@DefaultValue("true") boolean enabled,
+      @DefaultValue Rule defaultRule, @DefaultValue List<Route> routes,
+      @DefaultValue("100000") long maximumBuckets, @DefaultValue("false") boolean clusterEnabled) {
+    this.enabled = enabled;
+    this.defaultRule = defaultRule;
+    this.routes = routes;
+    this.maximumBuckets = maximumBuckets;
+    this.clusterEnabled = clusterEnabled;
+  }
+
+  /**
+   * 버킷 용량과 초당 충전량
+   */
+  @Getter
+  public static class Rule {
+
+    private final long capacity;
+
+    private final double refillPerSecond;
+
+    public Rule(@DefaultValue("100") long capacity, @DefaultValue("50") double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+
+  /**
+   * 경로 패턴별 규칙, 같은 패턴에 걸린 요청은 주체별로 하나의 버킷을 공유
+   */
+  @Getter
+  public static class Route extends Rule {
+
+    private final String pattern;
+
+    public Route(String pattern, @DefaultValue("100") long capacity,
+        @DefaultValue("50") double refillPerSecond) {
+      super(capacity, refillPerSecond);
+      this.pattern = pattern;
+    }
+  }
+}
@@ -1,22 +0,0 @@
-package com.sparta.fitpleprojectbackend.security;
-
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-
-import java.time.LocalDateTime;
-
-@Entity
-public class RefreshToken {
-
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
-
-  private String token;
-
-  private String username;
-
-  private LocalDateTime expiryDate;
-}
\ No newline at end of file
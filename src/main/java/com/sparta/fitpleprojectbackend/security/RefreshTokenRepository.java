@@ -1,15 +0,0 @@
-package com.sparta.fitpleprojectbackend.security;
-
-import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-
-  Optional<RefreshToken> findByToken(String token);
-
-  void deleteByToken(String token);
-
-  void deleteByUsername(String username);
-}
\ No newline at end of file
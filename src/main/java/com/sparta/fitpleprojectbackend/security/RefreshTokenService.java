@@ -1,42 +1,171 @@
 package com.sparta.fitpleprojectbackend.security;
 
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
 import com.sparta.fitpleprojectbackend.jwtutil.JwtUtil;
+import com.sparta.fitpleprojectbackend.jwtutil.ParsedToken;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
+/**
+ * 계정별 리프레시 토큰 저장소
+ * refresh:{아이디} 해시에 기기(토큰 계열)별 현재 토큰 ID를, refresh:{아이디}:devices 정렬 집합에
+ * 기기별 로그인 시각을 저장 (같은 해시 태그를 사용해 클러스터에서도 한 슬롯에 위치)
+ */
 @Service
 public class RefreshTokenService {
 
+  /**
+   * 기기 등록 후 최대 기기 수를 넘으면 가장 오래된 기기부터 제거
+   */
+  private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+          + "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) "
+          + "local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5]) "
+          + "if overflow > 0 then "
+          + "  local oldest = redis.call('ZRANGE', KEYS[2], 0, overflow - 1) "
+          + "  for _, family in ipairs(oldest) do "
+          + "    redis.call('HDEL', KEYS[1], family) "
+          + "    redis.call('ZREM', KEYS[2], family) "
+          + "  end "
+          + "end "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+          + "return 1",
+      Long.class);
+
+  /**
+   * 기기의 현재 토큰과 일치하면 새 토큰으로 교체(1), 기기가 없으면 0,
+   * 이미 교체된 이전 토큰이 다시 제출되면 탈취로 보고 해당 기기를 폐기(-1)
+   */
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+      "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if not current then return 0 end "
+          + "if current == ARGV[2] then "
+          + "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+          + "  redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+          + "  redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+          + "  return 1 "
+          + "end "
+          + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+          + "redis.call('ZREM', KEYS[2], ARGV[1]) "
+          + "return -1",
+      Long.class);
+
+  private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZREM', KEYS[2], ARGV[1]) "
+          + "return redis.call('HDEL', KEYS[1], ARGV[1])",
+      Long.class);
+
   private final RedisTemplate<String, String> redisTemplate;
   private final JwtUtil jwtUtil;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final int maxDevices;
 
-  public RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtUtil jwtUtil) {
+  public RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtUtil jwtUtil,
+      TokenVersionRegistry tokenVersionRegistry,
+      @Value("${jwt.refresh-token.max-devices:5}") int maxDevices) {
     this.redisTemplate = redisTemplate;
     this.jwtUtil = jwtUtil;
+    this.tokenVersionRegistry = tokenVersionRegistry;
+    this.maxDevices = maxDevices;
   }
 
   /**
-   * 리프레시 토큰 저장
+   * 새 기기(토큰 계열)를 등록하고 리프레시 토큰 발급
    *
-   * @param username 사용자 이름
+   * @param username     사용자 이름
+   * @param tokenVersion 계정의 현재 토큰 버전
    * @return 저장된 리프레시 토큰
    */
-  public String createRefreshToken(String username) {
-    String token = jwtUtil.generateRefreshToken(username);
-    redisTemplate.opsForValue()
-        .set(username, token, jwtUtil.getRefreshTokenValidity(), TimeUnit.MILLISECONDS);
+  public String createRefreshToken(String username, long tokenVersion) {
+    String familyId = UUID.randomUUID().toString();
+    String tokenId = UUID.randomUUID().toString();
+    String token = jwtUtil.generateRefreshToken(username, familyId, tokenId, tokenVersion);
+    redisTemplate.execute(CREATE_SCRIPT, keys(username),
+        familyId, tokenId, String.valueOf(System.currentTimeMillis()),
+        String.valueOf(jwtUtil.getRefreshTokenValidity()), String.valueOf(maxDevices));
     return token;
   }
 
   /**
-   * 리프레시 토큰 삭제
+   * 리프레시 토큰을 검증하고 같은 기기의 새 토큰으로 교체 (Redis 왕복 1회)
+   * 비밀번호 변경, 전체 로그아웃으로 토큰 버전이 오른 뒤의 이전 토큰은 기기를 폐기하고 거절
+   *
+   * @param parsedToken 제출된 리프레시 토큰의 파싱 결과
+   * @return 새 리프레시 토큰
+   * @throws CustomException 유효하지 않거나 재사용이 감지된 경우
+   */
+  public String rotate(ParsedToken parsedToken) {
+    if (!parsedToken.isValid() || parsedToken.getFamilyId() == null) {
+      throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN);
+    }
+
+    String username = parsedToken.getSubject();
+    String familyId = parsedToken.getFamilyId();
+    long tokenVersion = parsedToken.getTokenVersion();
+    if (tokenVersionRegistry.isRevoked(username, tokenVersion)) {
+      redisTemplate.execute(REVOKE_SCRIPT, keys(username), familyId);
+      throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN);
+    }
+
+    String newTokenId = UUID.randomUUID().toString();
+    String newToken = jwtUtil.generateRefreshToken(username, familyId, newTokenId,
+        tokenVersion);
+
+    Long result = redisTemplate.execute(ROTATE_SCRIPT, keys(username),
+        familyId, parsedToken.getId(), newTokenId,
+        String.valueOf(jwtUtil.getRefreshTokenValidity()));
+
+    if (result == null || result == 0) {
+      throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN);
+    }
+    if (result < 0) {
+      throw new CustomException(ErrorType.REFRESH_TOKEN_REUSED);
+    }
+    return newToken;
+  }
+
+  /**
+   * 리프레시 토큰이 속한 기기만 폐기
+   *
+   * @param token 폐기할 리프레시 토큰
+   */
+  public void revoke(String token) {
+    ParsedToken parsedToken = jwtUtil.parseToken(token);
+    if (parsedToken.isValid() && parsedToken.getFamilyId() != null) {
+      redisTemplate.execute(REVOKE_SCRIPT, keys(parsedToken.getSubject()),
+          parsedToken.getFamilyId());
+    }
+  }
+
+  /**
+   * 계정 본인의 리프레시 토큰인 경우에만 해당 기기 폐기 (로그아웃 시 호출)
+   *
+   * @param username 로그아웃하는 사용자 이름
+   * @param token    폐기할 리프레시 토큰
+   */
+  public void revoke(String username, String token) {
+    ParsedToken parsedToken = jwtUtil.parseToken(token);
+    if (parsedToken.isValid() && parsedToken.getFamilyId() != null
+        && username.equals(parsedToken.getSubject())) {
+      redisTemplate.execute(REVOKE_SCRIPT, keys(username), parsedToken.getFamilyId());
+    }
+  }
+
+  /**
+   * 계정의 모든 기기 리프레시 토큰 폐기 (모든 기기에서 로그아웃)
    *
    * @param username 사용자 이름
    */
-  public void deleteByUsername(String username) {
-    redisTemplate.delete(username);
+  public void revokeAll(String username) {
+    redisTemplate.delete(keys(username));
   }
 
   /**
@@ -46,8 +175,20 @@ public class RefreshTokenService {
    * @return 유효한 토큰인지 여부
    */
   public boolean isRefreshTokenValid(String token) {
-    String username = jwtUtil.getUsername(token);
-    String storedToken = redisTemplate.opsForValue().get(username);
-    return token.equals(storedToken) && jwtUtil.validateToken(token);
+    ParsedToken parsedToken = jwtUtil.parseToken(token);
+    if (!parsedToken.isValid() || parsedToken.getFamilyId() == null) {
+      return false;
+    }
+    Object current = redisTemplate.opsForHash()
+        .get(tokensKey(parsedToken.getSubject()), parsedToken.getFamilyId());
+    return parsedToken.getId().equals(current);
+  }
+
+  private List<String> keys(String username) {
+    return Arrays.asList(tokensKey(username), tokensKey(username) + ":devices");
+  }
+
+  private String tokensKey(String username) {
+    return "refresh:{" + username + "}";
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.fitpleprojectbackend.common.CommonResponse;
+import com.sparta.fitpleprojectbackend.jwtutil.JwtClaimsCache;
+import com.sparta.fitpleprojectbackend.jwtutil.ParsedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JWT 인증 전에 요청 속도를 제한하는 필터
+ * 유효한 액세스 토큰이 있으면 계정 ID, 없으면 클라이언트 IP를 주체로 경로 규칙별 버킷을 적용하고,
+ * 한도를 넘으면 429와 Retry-After로 응답
+ */
+@Component
+public class RequestRateLimitFilter extends OncePerRequestFilter {
+
+  private static final String DEFAULT_ROUTE = "default";
+
+  private final RateLimitProperties properties;
+  private final RequestRateLimiter requestRateLimiter;
+  private final JwtClaimsCache jwtClaimsCache;
+  private final ObjectMapper objectMapper;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  public RequestRateLimitFilter(RateLimitProperties properties,
+      RequestRateLimiter requestRateLimiter, JwtClaimsCache jwtClaimsCache,
+      ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.requestRateLimiter = requestRateLimiter;
+    this.jwtClaimsCache = jwtClaimsCache;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws ServletException, IOException {
+    String path = request.getRequestURI();
+    String routeKey = DEFAULT_ROUTE;
+    RateLimitProperties.Rule rule = properties.getDefaultRule();
+    for (RateLimitProperties.Route route : properties.getRoutes()) {
+      if (pathMatcher.match(route.getPattern(), path)) {
+        routeKey = route.getPattern();
+        rule = route;
+        break;
+      }
+    }
+
+    long retryAfterMillis = requestRateLimiter.tryAcquire(routeKey, resolvePrincipal(request),
+        rule);
+    if (retryAfterMillis > 0) {
+      reject(response, retryAfterMillis);
+      return;
+    }
+    chain.doFilter(request, response);
+  }
+
+  /**
+   * 토큰 파싱 결과는 JwtAuthenticationFilter와 같은 캐시를 사용하므로 파싱은 요청당 한 번
+   */
+  private String resolvePrincipal(HttpServletRequest request) {
+    String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authHeader != null && authHeader.startsWith("Bearer ")) {
+      ParsedToken parsedToken = jwtClaimsCache.getParsedToken(authHeader.substring(7));
+      if (parsedToken.isValid() && parsedToken.getSubject() != null) {
+        return "account:" + parsedToken.getSubject();
+      }
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999)));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(response.getWriter(), new CommonResponse<>(
+        HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", null));
+  }
+}
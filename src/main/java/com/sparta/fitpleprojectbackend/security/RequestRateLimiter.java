@@ -0,0 +1,112 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 경로 규칙과 요청 주체(계정 또는 IP)별 토큰 버킷으로 요청 속도 제한
+ * 기본은 노드별 로컬 버킷이며, 클러스터 모드에서는 Redis에 버킷을 두어 모든 노드가 한도를 공유
+ */
+@Slf4j
+@Service
+public class RequestRateLimiter {
+
+  private static final String KEY_PREFIX = "rate-limit:";
+
+  /**
+   * TokenBucket과 같은 방식의 Redis 버킷, 노드 간 시계 차이를 피하기 위해 Redis 시각 사용
+   * 허용되면 0, 거절되면 다음 토큰까지 남은 시간(us)
+   */
+  private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+      "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) "
+          + "local interval = tonumber(ARGV[1]) "
+          + "local tat = tonumber(redis.call('GET', KEYS[1]) or '0') "
+          + "if tat < now then tat = now end "
+          + "local next = tat + interval "
+          + "local wait = next - now - interval * tonumber(ARGV[2]) "
+          + "if wait > 0 then return wait end "
+          + "redis.call('SET', KEYS[1], string.format('%.0f', next), "
+          + "'PX', math.ceil((next - now) / 1000) + 1) "
+          + "return 0",
+      Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final boolean clusterEnabled;
+  private final Cache<String, TokenBucket> buckets;
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  public RequestRateLimiter(RedisTemplate<String, String> redisTemplate,
+      RateLimitProperties properties) {
+    this.redisTemplate = redisTemplate;
+    this.clusterEnabled = properties.isClusterEnabled();
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumBuckets())
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+  }
+
+  /**
+   * 요청 하나에 대한 토큰 소비 시도
+   *
+   * @param routeKey  적용된 경로 규칙 이름
+   * @param principal 요청 주체 (계정 ID 또는 IP)
+   * @param rule      버킷 용량과 충전 속도
+   * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ms)
+   */
+  public long tryAcquire(String routeKey, String principal, RateLimitProperties.Rule rule) {
+    String bucketKey = routeKey + "|" + principal;
+    long waitMillis = clusterEnabled ? tryAcquireRemote(bucketKey, rule) : -1;
+    if (waitMillis < 0) {
+      long waitNanos = buckets.get(bucketKey,
+              key -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond()))
+          .tryConsume(System.nanoTime());
+      waitMillis = waitNanos > 0 ? Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)) : 0;
+    }
+    if (waitMillis > 0) {
+      rejectedCount.incrementAndGet();
+    }
+    return waitMillis;
+  }
+
+  /**
+   * 속도 제한으로 거절된 요청 수
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+   * 로컬 버킷 수
+   */
+  public long getBucketCount() {
+    return buckets.estimatedSize();
+  }
+
+  /**
+   * Redis 버킷에서 토큰 소비, Redis를 사용할 수 없으면 -1을 반환해 로컬 버킷으로 대체
+   */
+  private long tryAcquireRemote(String bucketKey, RateLimitProperties.Rule rule) {
+    long intervalMicros = Math.max(1L, (long) (1_000_000L / rule.getRefillPerSecond()));
+    try {
+      Long waitMicros = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + bucketKey),
+          String.valueOf(intervalMicros), String.valueOf(rule.getCapacity()));
+      if (waitMicros == null) {
+        return -1;
+      }
+      return waitMicros > 0 ? Math.max(1, TimeUnit.MICROSECONDS.toMillis(waitMicros)) : 0;
+    } catch (Exception e) {
+      log.warn("Redis 요청 속도 제한을 사용할 수 없어 로컬 버킷을 사용합니다: {}", e.getMessage());
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID의 로컬 블룸 필터
+ * 현재/이전 두 세대를 유지하고 토큰 유효기간마다 세대를 교체하여 만료된 항목이 쌓이지 않게 함
+ */
+class RevokedTokenBloomFilter {
+
+  private static final int HASH_COUNT = 5;
+
+  private final int bitSize;
+
+  private final long rotationIntervalMillis;
+
+  private volatile AtomicLongArray current;
+
+  private volatile AtomicLongArray previous;
+
+  private volatile long rotatedAt;
+
+  RevokedTokenBloomFilter(int bitSize, long rotationIntervalMillis) {
+    this.bitSize = bitSize;
+    this.rotationIntervalMillis = rotationIntervalMillis;
+    this.current = new AtomicLongArray((bitSize + 63) / 64);
+    this.previous = new AtomicLongArray((bitSize + 63) / 64);
+    this.rotatedAt = System.currentTimeMillis();
+  }
+
+  void put(String tokenId) {
+    rotateIfNeeded();
+    AtomicLongArray bits = current;
+    for (int index : indexes(tokenId)) {
+      long mask = 1L << (index & 63);
+      int word = index >>> 6;
+      long value;
+      do {
+        value = bits.get(word);
+      } while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask));
+    }
+  }
+
+  /**
+   * @return false이면 확실히 폐기되지 않은 토큰, true이면 폐기되었을 수 있음
+   */
+  boolean mightContain(String tokenId) {
+    rotateIfNeeded();
+    int[] indexes = indexes(tokenId);
+    return contains(current, indexes) || contains(previous, indexes);
+  }
+
+  private boolean contains(AtomicLongArray bits, int[] indexes) {
+    for (int index : indexes) {
+      if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void rotateIfNeeded() {
+    long now = System.currentTimeMillis();
+    if (now - rotatedAt < rotationIntervalMillis) {
+      return;
+    }
+    synchronized (this) {
+      if (now - rotatedAt >= rotationIntervalMillis) {
+        previous = current;
+        current = new AtomicLongArray((bitSize + 63) / 64);
+        rotatedAt = now;
+      }
+    }
+  }
+
+  private int[] indexes(String tokenId) {
+    byte[] bytes = tokenId.getBytes(StandardCharsets.UTF_8);
+    int hash1 = fnv1a(bytes);
+    int hash2 = Integer.rotateLeft(hash1 * 0x9E3779B9, 16) ^ tokenId.hashCode();
+    int[] indexes = new int[HASH_COUNT];
+    for (int i = 0; i < HASH_COUNT; i++) {
+      indexes[i] = Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+    return indexes;
+  }
+
+  private int fnv1a(byte[] bytes) {
+    int hash = 0x811C9DC5;
+    for (byte b : bytes) {
+      hash ^= b;
+      hash *= 0x01000193;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,41 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 동작하는 토큰 버킷
+ * 토큰 수 대신 "버킷이 가득 차는 시각"(GCRA의 이론적 도착 시각) 하나만 CAS로 갱신하며,
+ * 용량 capacity, 초당 refillPerSecond개 충전되는 토큰 버킷과 같은 결과를 냄
+ */
+public class TokenBucket {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+  public TokenBucket(long capacity, double refillPerSecond) {
+    this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+    this.burstNanos = intervalNanos * capacity;
+  }
+
+  /**
+   * 토큰 하나 소비 시도
+   *
+   * @param nowNanos 현재 시각 (System.nanoTime)
+   * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+   */
+  public long tryConsume(long nowNanos) {
+    while (true) {
+      long current = theoreticalArrival.get();
+      long base = Math.max(current, nowNanos);
+      long next = base + intervalNanos;
+      long wait = next - nowNanos - burstNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+}
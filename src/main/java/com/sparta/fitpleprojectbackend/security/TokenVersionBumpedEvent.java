@@ -0,0 +1,24 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import lombok.Getter;
+
+/**
+ * 계정의 토큰 버전이 증가했음을 알리는 이벤트
+ */
+@Getter
+public class TokenVersionBumpedEvent {
+
+  /**
+   * 다른 노드에 "아이디:버전"을 전파하는 Redis 채널
+   */
+  public static final String CHANNEL = "token-version-bumped";
+
+  private final String accountId;
+
+  private final long tokenVersion;
+
+  public TokenVersionBumpedEvent(String accountId, long tokenVersion) {
+    this.accountId = accountId;
+    this.tokenVersion = tokenVersion;
+  }
+}
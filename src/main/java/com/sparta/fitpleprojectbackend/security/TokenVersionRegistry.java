@@ -0,0 +1,94 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 계정별 현재 토큰 버전을 보관하는 로컬 캐시
+ * 원본은 account_index.token_version이며, 캐시에 없는 계정은 DB에서 읽어 채움
+ * 버전이 증가하면 커밋 후 Redis로 다른 노드에 전파해 모든 노드가 바로 이전 토큰을 거절하고,
+ * 전파를 놓치거나 재시작한 노드도 캐시 만료 후 DB 값으로 맞춰짐
+ */
+@Slf4j
+@Component
+public class TokenVersionRegistry {
+
+  private final AccountIndexRepository accountIndexRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final Cache<String, Long> versions;
+
+  public TokenVersionRegistry(AccountIndexRepository accountIndexRepository,
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${jwt.token-version.maximum-size:100000}") long maximumSize,
+      @Value("${jwt.token-version.ttl-seconds:60}") long ttlSeconds) {
+    this.accountIndexRepository = accountIndexRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.versions = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+  }
+
+  /**
+   * 다른 노드에서 발행한 버전 증가 이벤트 구독
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener((message, pattern) -> {
+      String body = new String(message.getBody(), StandardCharsets.UTF_8);
+      int separator = body.lastIndexOf(':');
+      recordBump(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    }, new ChannelTopic(TokenVersionBumpedEvent.CHANNEL));
+  }
+
+  /**
+   * 토큰 버전 증가 트랜잭션이 커밋된 뒤 로컬에 기록하고 다른 노드에 전파
+   *
+   * @param event 버전 증가 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTokenVersionBumped(TokenVersionBumpedEvent event) {
+    recordBump(event.getAccountId(), event.getTokenVersion());
+    try {
+      redisTemplate.convertAndSend(TokenVersionBumpedEvent.CHANNEL,
+          event.getAccountId() + ":" + event.getTokenVersion());
+    } catch (Exception e) {
+      log.warn("토큰 버전 전파에 실패했습니다. accountId={}: {}", event.getAccountId(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 토큰에 담긴 버전이 폐기된 버전인지 확인
+   *
+   * @param accountId    아이디
+   * @param tokenVersion 토큰에 담긴 버전
+   * @return 이후 버전이 발급되어 폐기된 토큰이면 true
+   */
+  public boolean isRevoked(String accountId, long tokenVersion) {
+    return tokenVersion < versions.get(accountId, this::loadVersion);
+  }
+
+  private void recordBump(String accountId, long version) {
+    versions.asMap().merge(accountId, version, Math::max);
+  }
+
+  private Long loadVersion(String accountId) {
+    return accountIndexRepository.findByAccountId(accountId)
+        .map(AccountIndex::getTokenVersion)
+        .orElse(0L);
+  }
+}
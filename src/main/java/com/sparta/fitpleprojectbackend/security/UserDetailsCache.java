@@ -0,0 +1,122 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 요청 인증용 사용자 정보 로컬 캐시
+ * 엔티티와 비밀번호 해시 없이 아이디, 권한, 엔티티 ID만 담은 값을 보관하고, 계정 정보가 바뀌면 커밋 후
+ * Redis로 다른 노드에도 무효화를 전파
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Cache<String, UserDetailsImpl> cache;
+
+  public UserDetailsCache(RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer, ApplicationEventPublisher eventPublisher,
+      @Value("${security.user-details-cache.maximum-size:10000}") long maximumSize,
+      @Value("${security.user-details-cache.ttl-seconds:60}") long ttlSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.eventPublisher = eventPublisher;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 다른 노드에서 발행한 무효화 이벤트 구독
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> cache.invalidate(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(UserDetailsChangedEvent.CHANNEL));
+  }
+
+  /**
+   * 캐시된 사용자 정보를 조회, 없으면 loader로 조회 후 엔티티를 뗀 값으로 보관
+   *
+   * @param accountId 계정 아이디
+   * @param loader    캐시 미스 시 사용자 정보를 조회하는 함수
+   * @return 사용자 정보 (비밀번호, 엔티티 없음)
+   */
+  public UserDetailsImpl get(String accountId, Function<String, UserDetailsImpl> loader) {
+    return cache.get(accountId, id -> loader.apply(id).detach());
+  }
+
+  /**
+   * 계정 정보가 변경되었을 때 캐시에서 제거
+   * 트랜잭션 안에서 호출되면 커밋 후 다시 제거하고 다른 노드에 전파
+   *
+   * @param accountId 계정 아이디
+   */
+  public void evict(String accountId) {
+    cache.invalidate(accountId);
+    eventPublisher.publishEvent(new UserDetailsChangedEvent(accountId));
+  }
+
+  /**
+   * 계정 변경 트랜잭션이 커밋된 뒤 로컬 캐시를 다시 비우고 다른 노드에 전파
+   * (커밋 전에 다른 요청이 이전 값을 다시 채웠을 수 있으므로 커밋 후에도 제거)
+   *
+   * @param event 계정 정보 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDetailsChanged(UserDetailsChangedEvent event) {
+    cache.invalidate(event.getAccountId());
+    try {
+      redisTemplate.convertAndSend(UserDetailsChangedEvent.CHANNEL, event.getAccountId());
+    } catch (Exception e) {
+      log.warn("사용자 정보 캐시 무효화 전파에 실패했습니다. accountId={}: {}", event.getAccountId(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 캐시 적중률
+   *
+   * @return 0 ~ 1 사이의 적중률
+   */
+  public double getHitRate() {
+    return cache.stats().hitRate();
+  }
+
+  /**
+   * 캐시 적중 횟수
+   *
+   * @return 누적 적중 횟수
+   */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * 캐시 미스 횟수
+   *
+   * @return 누적 미스 횟수
+   */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+}
@@ -0,0 +1,21 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import lombok.Getter;
+
+/**
+ * 계정의 비밀번호, 상태, 권한 등 인증 정보가 변경되었음을 알리는 이벤트
+ */
+@Getter
+public class UserDetailsChangedEvent {
+
+  /**
+   * 다른 노드에 변경된 계정 아이디를 전파하는 Redis 채널
+   */
+  public static final String CHANNEL = "user-details-changed";
+
+  private final String accountId;
+
+  public UserDetailsChangedEvent(String accountId) {
+    this.accountId = accountId;
+  }
+}
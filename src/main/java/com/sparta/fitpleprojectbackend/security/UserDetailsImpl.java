@@ -26,6 +26,8 @@ public class UserDetailsImpl implements UserDetails {
 
   private final Trainer trainer;
 
+  private final Long entityId;
+
   public UserDetailsImpl(User user) {
     this.accountId = user.getAccountId();
     this.password = user.getPassword();
@@ -33,6 +35,7 @@ public class UserDetailsImpl implements UserDetails {
     this.user = user;
     this.owner = null;
     this.trainer = null;
+    this.entityId = user.getId();
   }
 
   public UserDetailsImpl(Owner owner) {
@@ -42,6 +45,7 @@ public class UserDetailsImpl implements UserDetails {
     this.user = null;
     this.owner = owner;
     this.trainer = null;
+    this.entityId = owner.getId();
   }
 
   public UserDetailsImpl(Trainer trainer) {
@@ -51,6 +55,33 @@ public class UserDetailsImpl implements UserDetails {
     this.user = null;
     this.owner = null;
     this.trainer = trainer;
+    this.entityId = trainer.getId();
+  }
+
+  /**
+   * 토큰 클레임만으로 구성하는 무상태 인증 정보 (엔티티는 로딩하지 않음)
+   *
+   * @param accountId 아이디
+   * @param role      권한
+   * @param entityId  역할별 테이블의 ID
+   */
+  public UserDetailsImpl(String accountId, Role role, Long entityId) {
+    this.accountId = accountId;
+    this.password = null;
+    this.role = role;
+    this.user = null;
+    this.owner = null;
+    this.trainer = null;
+    this.entityId = entityId;
+  }
+
+  /**
+   * 엔티티와 비밀번호 해시를 뺀 인증 정보 (캐시 보관용)
+   *
+   * @return 아이디, 권한, 엔티티 ID만 담은 인증 정보
+   */
+  public UserDetailsImpl detach() {
+    return new UserDetailsImpl(accountId, role, entityId);
   }
 
   /**
@@ -98,14 +129,9 @@ public class UserDetailsImpl implements UserDetails {
   }
 
   public Long getUserId() {
-    if (user != null) {
-      return user.getId();
-    } else if (owner != null) {
-      return owner.getId();
-    } else if (trainer != null) {
-      return trainer.getId();
-    } else {
+    if (entityId == null) {
       throw new IllegalStateException("존재하지 않는 사용자 입니다.");
     }
+    return entityId;
   }
 }
\ No newline at end of file
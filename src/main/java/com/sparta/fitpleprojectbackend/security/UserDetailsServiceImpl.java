@@ -1,10 +1,7 @@
 package com.sparta.fitpleprojectbackend.security;
 
-import com.sparta.fitpleprojectbackend.owner.entity.Owner;
 import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
-import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
 import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
-import com.sparta.fitpleprojectbackend.user.entity.User;
 import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -19,32 +16,51 @@ public class UserDetailsServiceImpl implements
   private final UserRepository userRepository;
   private final OwnerRepository ownerRepository;
   private final TrainerRepository trainerRepository;
+  private final UserDetailsCache userDetailsCache;
+  private final AccountIndexService accountIndexService;
 
   public UserDetailsServiceImpl(UserRepository userRepository, OwnerRepository ownerRepository,
-      TrainerRepository trainerRepository) {
+      TrainerRepository trainerRepository, UserDetailsCache userDetailsCache,
+      AccountIndexService accountIndexService) {
     this.userRepository = userRepository;
     this.ownerRepository = ownerRepository;
     this.trainerRepository = trainerRepository;
+    this.userDetailsCache = userDetailsCache;
+    this.accountIndexService = accountIndexService;
   }
 
+  /**
+   * 로그인 검증용 사용자 정보, 비밀번호 해시가 필요하므로 캐시를 거치지 않고 조회
+   */
   @Override
   public UserDetails loadUserByUsername(String accountId) throws UsernameNotFoundException {
-    Optional<User> userOptional = userRepository.findByAccountId(accountId);
-    if (userOptional.isPresent()) {
-      return new UserDetailsImpl(userOptional.get());
-    }
-
-    Optional<Owner> ownerOptional = ownerRepository.findByAccountId(accountId);
-    if (ownerOptional.isPresent()) {
-      return new UserDetailsImpl(ownerOptional.get());
-    }
-
-    Optional<Trainer> trainerOptional = trainerRepository.findByAccountId(accountId);
-    if (trainerOptional.isPresent()) {
-      return new UserDetailsImpl(trainerOptional.get());
-    }
-
-    throw new UsernameNotFoundException(
-        "사용자, 점주 또는 트레이너를 찾을 수 없습니다. 아이디: " + accountId);
+    return loadFromRepository(accountId);
+  }
+
+  /**
+   * 토큰 인증용 사용자 정보, 비밀번호와 엔티티를 뗀 값을 캐시에서 조회
+   *
+   * @param accountId 계정 아이디
+   * @return 아이디, 권한, 엔티티 ID만 담은 인증 정보
+   * @throws UsernameNotFoundException 계정을 찾을 수 없는 경우
+   */
+  public UserDetailsImpl loadPrincipal(String accountId) throws UsernameNotFoundException {
+    return userDetailsCache.get(accountId, this::loadFromRepository);
+  }
+
+  private UserDetailsImpl loadFromRepository(String accountId) {
+    AccountIndex accountIndex = accountIndexService.resolve(accountId)
+        .orElseThrow(() -> new UsernameNotFoundException(
+            "사용자, 점주 또는 트레이너를 찾을 수 없습니다. 아이디: " + accountId));
+
+    Optional<UserDetailsImpl> userDetails = switch (accountIndex.getRole()) {
+      case USER -> userRepository.findById(accountIndex.getEntityId()).map(UserDetailsImpl::new);
+      case OWNER -> ownerRepository.findById(accountIndex.getEntityId()).map(UserDetailsImpl::new);
+      case TRAINER ->
+          trainerRepository.findById(accountIndex.getEntityId()).map(UserDetailsImpl::new);
+    };
+
+    return userDetails.orElseThrow(() -> new UsernameNotFoundException(
+        "사용자, 점주 또는 트레이너를 찾을 수 없습니다. 아이디: " + accountId));
   }
 }
\ No newline at end of file
@@ -2,12 +2,17 @@ package com.sparta.fitpleprojectbackend.store.controller;
 
 import com.sparta.fitpleprojectbackend.common.CommonResponse;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
+import com.sparta.fitpleprojectbackend.store.dto.StoreNearbyResponse;
 import com.sparta.fitpleprojectbackend.store.dto.StoreRequest;
 import com.sparta.fitpleprojectbackend.store.dto.StoreResponse;
 import com.sparta.fitpleprojectbackend.store.dto.StoreSimpleResponse;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSliceResponse;
 import com.sparta.fitpleprojectbackend.store.service.StoreService;
+import com.sparta.fitpleprojectbackend.store.service.StoreTrainerService;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerGetResponse;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,6 +35,8 @@ public class StoreController {
 
   private final StoreService storeService;
 
+  private final StoreTrainerService storeTrainerService;
+
   /**
    * 매장 등록
    *
@@ -42,7 +50,7 @@ public class StoreController {
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @Valid @RequestBody StoreRequest request
   ) {
-    StoreResponse storeResponse = storeService.createStore(request, userDetails.getOwner());
+    StoreResponse storeResponse = storeService.createStore(request, userDetails);
     CommonResponse<StoreResponse> response = new CommonResponse<>(
         HttpStatus.CREATED.value(), "매장 등록 완료", storeResponse);
     return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -64,7 +72,7 @@ public class StoreController {
       @Valid @RequestBody StoreRequest request
   ) {
     StoreResponse storeResponse = storeService.updateStore(
-        storeId, request, userDetails.getOwner().getAccountId());
+        storeId, request, userDetails.getUsername());
     CommonResponse<StoreResponse> response = new CommonResponse<>(
         HttpStatus.OK.value(), "매장 수정 완료", storeResponse);
     return new ResponseEntity<>(response, HttpStatus.OK);
@@ -83,24 +91,147 @@ public class StoreController {
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @PathVariable Long storeId
   ) {
-    storeService.deleteStore(storeId, userDetails.getOwner().getAccountId());
+    storeService.deleteStore(storeId, userDetails.getUsername());
     return new ResponseEntity<>(HttpStatus.OK);
   }
 
   /**
    * 매장 전체 조회
    *
-   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(매장 ID, 매장 명)
+   * @param cursor 이전 응답의 다음 페이지 커서, 첫 페이지는 생략
+   * @param size   페이지 크기 (최대 100)
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(매장 ID, 매장 명, 다음 페이지 커서)
    */
   @GetMapping
-  public ResponseEntity<CommonResponse<List<StoreSimpleResponse>>> findAllStore() {
-    List<StoreSimpleResponse> stores = storeService.findAll();
+  public ResponseEntity<CommonResponse<StoreSliceResponse>> findAllStore(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    StoreSliceResponse stores = storeService.findAll(cursor, size);
 
-    CommonResponse<List<StoreSimpleResponse>> response = new CommonResponse<>(
+    CommonResponse<StoreSliceResponse> response = new CommonResponse<>(
         HttpStatus.OK.value(), "매장 전체 조회 완료", stores);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
+  /**
+   * 매장 검색 (자동완성)
+   *
+   * @param q    검색어
+   * @param size 최대 매장 수 (최대 100)
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(매장 ID, 매장 명)
+   */
+  @GetMapping("/search")
+  public ResponseEntity<CommonResponse<List<StoreSimpleResponse>>> searchStore(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    List<StoreSimpleResponse> stores = storeService.search(q, size);
+
+    CommonResponse<List<StoreSimpleResponse>> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "매장 검색 완료", stores);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * 주변 매장 조회
+   *
+   * @param lat      검색 지점 위도
+   * @param lng      검색 지점 경도
+   * @param size     최대 매장 수 (최대 100)
+   * @param radiusKm 검색 반경(km, 최대 50)
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(가까운 순 매장 ID, 매장 명, 거리)
+   */
+  @GetMapping("/nearby")
+  public ResponseEntity<CommonResponse<List<StoreNearbyResponse>>> findNearbyStore(
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "5") double radiusKm
+  ) {
+    List<StoreNearbyResponse> stores = storeService.findNearby(lat, lng, size, radiusKm);
+
+    CommonResponse<List<StoreNearbyResponse>> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "주변 매장 조회 완료", stores);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * 매장에 트레이너 등록
+   *
+   * @param userDetails 인증된 사용자의 정보
+   * @param storeId     매장 ID
+   * @param trainerId   등록할 트레이너 ID
+   * @return HTTP 상태 코드, 응답 메시지
+   */
+  @PreAuthorize("hasAnyAuthority('OWNER')")
+  @PostMapping("/owners/{storeId}/trainers/{trainerId}")
+  public ResponseEntity<CommonResponse<Void>> assignTrainer(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long storeId,
+      @PathVariable Long trainerId
+  ) {
+    storeTrainerService.assignTrainer(storeId, trainerId, userDetails.getUsername());
+    CommonResponse<Void> response = new CommonResponse<>(
+        HttpStatus.CREATED.value(), "매장 트레이너 등록 완료", null);
+    return new ResponseEntity<>(response, HttpStatus.CREATED);
+  }
+
+  /**
+   * 매장에서 트레이너 제외
+   *
+   * @param userDetails 인증된 사용자의 정보
+   * @param storeId     매장 ID
+   * @param trainerId   제외할 트레이너 ID
+   * @return HTTP 상태 코드, 응답 메시지
+   */
+  @PreAuthorize("hasAnyAuthority('OWNER')")
+  @DeleteMapping("/owners/{storeId}/trainers/{trainerId}")
+  public ResponseEntity<CommonResponse<Void>> unassignTrainer(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long storeId,
+      @PathVariable Long trainerId
+  ) {
+    storeTrainerService.unassignTrainer(storeId, trainerId, userDetails.getUsername());
+    CommonResponse<Void> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "매장 트레이너 제외 완료", null);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * 매장 소속 트레이너 조회
+   *
+   * @param storeId 매장 ID
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(소속 트레이너 목록)
+   */
+  @GetMapping("/{storeId}/trainers")
+  public ResponseEntity<CommonResponse<List<TrainerGetResponse>>> findStoreTrainers(
+      @PathVariable Long storeId
+  ) {
+    List<TrainerGetResponse> trainers = storeTrainerService.findTrainers(storeId);
+
+    CommonResponse<List<TrainerGetResponse>> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "매장 트레이너 조회 완료", trainers);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * 여러 매장의 소속 트레이너 일괄 조회
+   *
+   * @param storeIds 매장 ID 목록 (최대 100개)
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(매장 ID별 소속 트레이너 목록)
+   */
+  @GetMapping("/trainers")
+  public ResponseEntity<CommonResponse<Map<Long, List<TrainerGetResponse>>>> findStoresTrainers(
+      @RequestParam List<Long> storeIds
+  ) {
+    Map<Long, List<TrainerGetResponse>> trainers = storeTrainerService.findTrainers(storeIds);
+
+    CommonResponse<Map<Long, List<TrainerGetResponse>>> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "매장 트레이너 일괄 조회 완료", trainers);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
   /**
    * 매장 상세 조회
    *
@@ -122,16 +253,21 @@ public class StoreController {
    * 점주 등록된 매장 조회
    *
    * @param userDetails 조회하고자 하는 점주의 사용자 정보
-   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(해당 점주가 등록한 매장의 ID와 이름)
+   * @param cursor      이전 응답의 다음 페이지 커서, 첫 페이지는 생략
+   * @param size        페이지 크기 (최대 100)
+   * @return HTTP 상태 코드, 응답 메시지, 응답 데이터(해당 점주가 등록한 매장의 ID와 이름, 다음 페이지 커서)
    */
   @PreAuthorize("hasAnyAuthority('OWNER')")
   @GetMapping("/owners")
-  public ResponseEntity<CommonResponse<List<StoreSimpleResponse>>> findAllAdminStore(
-      @AuthenticationPrincipal UserDetailsImpl userDetails) {
-    List<StoreSimpleResponse> stores = storeService.findAllAdmin(
-        userDetails.getOwner().getAccountId());
+  public ResponseEntity<CommonResponse<StoreSliceResponse>> findAllAdminStore(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    StoreSliceResponse stores = storeService.findAllAdmin(
+        userDetails.getUsername(), cursor, size);
 
-    CommonResponse<List<StoreSimpleResponse>> response = new CommonResponse<>(
+    CommonResponse<StoreSliceResponse> response = new CommonResponse<>(
         HttpStatus.OK.value(), "점주 매장 조회 완료", stores);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
@@ -150,7 +286,7 @@ public class StoreController {
       @PathVariable Long storeId
   ) {
     StoreResponse storeResponse = storeService.findAdminById(
-        userDetails.getOwner().getAccountId(), storeId);
+        userDetails.getUsername(), storeId);
 
     CommonResponse<StoreResponse> response = new CommonResponse<>(
         HttpStatus.OK.value(), "점주 매장 상세 조회 완료", storeResponse);
@@ -0,0 +1,59 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.store.exception.StoreException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 매장 목록의 키셋 페이지 위치 (마지막으로 조회한 매장의 등록 시각과 ID)
+ */
+@Getter
+public class StoreCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final LocalDateTime createdAt;
+
+  private final Long storeId;
+
+  public StoreCursor(LocalDateTime createdAt, Long storeId) {
+    this.createdAt = createdAt;
+    this.storeId = storeId;
+  }
+
+  /**
+   * 클라이언트에 전달할 커서 문자열로 변환
+   *
+   * @return URL에 그대로 사용할 수 있는 커서 문자열
+   */
+  public String encode() {
+    String raw = createdAt + DELIMITER + storeId;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 클라이언트가 보낸 커서 문자열 해석
+   *
+   * @param cursor 커서 문자열
+   * @return 페이지 위치
+   * @throws StoreException 형식이 잘못된 커서인 경우
+   */
+  public static StoreCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = raw.lastIndexOf(DELIMITER);
+      if (index < 0) {
+        throw new StoreException(ErrorType.INVALID_CURSOR);
+      }
+      return new StoreCursor(LocalDateTime.parse(raw.substring(0, index)),
+          Long.parseLong(raw.substring(index + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new StoreException(ErrorType.INVALID_CURSOR);
+    }
+  }
+}
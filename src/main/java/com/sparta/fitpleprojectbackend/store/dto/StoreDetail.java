@@ -0,0 +1,22 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import com.sparta.fitpleprojectbackend.store.entity.Store;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 보관하는 매장 상세 정보와 점주 확인에 필요한 점주 아이디
+ */
+@Getter
+@NoArgsConstructor
+public class StoreDetail {
+
+  private StoreResponse storeResponse;
+
+  private String ownerAccountId;
+
+  public StoreDetail(Store store) {
+    this.storeResponse = new StoreResponse(store);
+    this.ownerAccountId = store.getOwner().getAccountId();
+  }
+}
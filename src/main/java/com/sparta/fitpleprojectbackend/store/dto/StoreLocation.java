@@ -0,0 +1,15 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+/**
+ * 공간 인덱스 적재용 프로젝션
+ */
+public interface StoreLocation {
+
+  Long getId();
+
+  String getStoreName();
+
+  Double getLatitude();
+
+  Double getLongitude();
+}
@@ -0,0 +1,19 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import lombok.Getter;
+
+@Getter
+public class StoreNearbyResponse {
+
+  private Long storeId;
+
+  private String storeName;
+
+  private double distanceKm;
+
+  public StoreNearbyResponse(Long storeId, String storeName, double distanceKm) {
+    this.storeId = storeId;
+    this.storeName = storeName;
+    this.distanceKm = distanceKm;
+  }
+}
@@ -24,4 +24,8 @@ public class StoreRequest {
 
   private String storeTel;
 
+  private Double latitude;
+
+  private Double longitude;
+
 }
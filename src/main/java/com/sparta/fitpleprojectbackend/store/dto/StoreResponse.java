@@ -2,8 +2,10 @@ package com.sparta.fitpleprojectbackend.store.dto;
 
 import com.sparta.fitpleprojectbackend.store.entity.Store;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class StoreResponse {
 
   private String storeName;
@@ -20,6 +22,10 @@ public class StoreResponse {
 
   private String storeTel;
 
+  private Double latitude;
+
+  private Double longitude;
+
   /**
    * Store 엔티티를 기반으로 StoreResponse 객체를 생성.
    *
@@ -33,5 +39,7 @@ public class StoreResponse {
     this.storeInfo = store.getStoreInfo();
     this.storeHour = store.getStoreHour();
     this.storeTel = store.getStoreTel();
+    this.latitude = store.getLatitude();
+    this.longitude = store.getLongitude();
   }
 }
@@ -0,0 +1,13 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+/**
+ * 검색 인덱스 적재용 프로젝션
+ */
+public interface StoreSearchDocument {
+
+  Long getId();
+
+  String getStoreName();
+
+  String getStoreInfo();
+}
@@ -20,4 +20,19 @@ public class StoreSimpleResponse {
     this.storeId = store.getId();
     this.storeName = store.getStoreName();
   }
+
+  public StoreSimpleResponse(Long storeId, String storeName) {
+    this.storeId = storeId;
+    this.storeName = storeName;
+  }
+
+  /**
+   * 목록 조회 프로젝션을 기반으로 StoreSimpleResponse 객체를 생성.
+   *
+   * @param storeSummary 매장 ID, 매장 명 프로젝션
+   */
+  public StoreSimpleResponse(StoreSummary storeSummary) {
+    this.storeId = storeSummary.getId();
+    this.storeName = storeSummary.getStoreName();
+  }
 }
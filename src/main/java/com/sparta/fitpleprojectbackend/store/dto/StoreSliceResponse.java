@@ -0,0 +1,23 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 매장 목록 한 페이지와 다음 페이지를 조회할 커서
+ */
+@Getter
+public class StoreSliceResponse {
+
+  private List<StoreSimpleResponse> stores;
+
+  private String nextCursor;
+
+  private boolean hasNext;
+
+  public StoreSliceResponse(List<StoreSimpleResponse> stores, String nextCursor) {
+    this.stores = stores;
+    this.nextCursor = nextCursor;
+    this.hasNext = nextCursor != null;
+  }
+}
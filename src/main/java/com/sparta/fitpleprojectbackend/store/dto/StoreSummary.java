@@ -0,0 +1,15 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 목록 조회용 프로젝션, 엔티티 대신 필요한 컬럼만 조회
+ */
+public interface StoreSummary {
+
+  Long getId();
+
+  String getStoreName();
+
+  LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,11 @@
+package com.sparta.fitpleprojectbackend.store.dto;
+
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSummary;
+
+/**
+ * 매장별 트레이너 목록 일괄 조회용 프로젝션
+ */
+public interface StoreTrainerSummary extends TrainerSummary {
+
+  Long getStoreId();
+}
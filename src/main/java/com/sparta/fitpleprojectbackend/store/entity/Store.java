@@ -3,20 +3,27 @@ package com.sparta.fitpleprojectbackend.store.entity;
 import com.sparta.fitpleprojectbackend.common.TimeStamped;
 import com.sparta.fitpleprojectbackend.owner.entity.Owner;
 import com.sparta.fitpleprojectbackend.store.dto.StoreRequest;
+import com.sparta.fitpleprojectbackend.store.geo.GeoPoint;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_store_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_store_owner_created_at_id", columnList = "owner_id, created_at, id")
+})
 public class Store extends TimeStamped {
 
   @Id
@@ -44,6 +51,10 @@ public class Store extends TimeStamped {
   @Column(nullable = false)
   private String storeTel;
 
+  private Double latitude;
+
+  private Double longitude;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "owner_id", nullable = false)
   private Owner owner;
@@ -69,4 +80,14 @@ public class Store extends TimeStamped {
     this.storeHour = request.getStoreHour();
     this.storeTel = request.getStoreTel();
   }
+
+  /**
+   * 매장 좌표 변경
+   *
+   * @param location 좌표, 알 수 없으면 null
+   */
+  public void updateLocation(GeoPoint location) {
+    this.latitude = location != null ? location.getLatitude() : null;
+    this.longitude = location != null ? location.getLongitude() : null;
+  }
 }
@@ -0,0 +1,46 @@
+package com.sparta.fitpleprojectbackend.store.entity;
+
+import com.sparta.fitpleprojectbackend.common.TimeStamped;
+import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장에 소속된 트레이너
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "store_trainer",
+    uniqueConstraints = @UniqueConstraint(name = "uk_store_trainer",
+        columnNames = {"store_id", "trainer_id"}),
+    indexes = @Index(name = "idx_store_trainer_trainer_id", columnList = "trainer_id"))
+public class StoreTrainer extends TimeStamped {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "store_id", nullable = false)
+  private Store store;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "trainer_id", nullable = false)
+  private Trainer trainer;
+
+  public StoreTrainer(Store store, Trainer trainer) {
+    this.store = store;
+    this.trainer = trainer;
+  }
+}
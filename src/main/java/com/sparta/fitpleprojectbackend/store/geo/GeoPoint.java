@@ -0,0 +1,45 @@
+package com.sparta.fitpleprojectbackend.store.geo;
+
+import lombok.Getter;
+
+/**
+ * 위도, 경도 좌표
+ */
+@Getter
+public class GeoPoint {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+
+  private final double latitude;
+
+  private final double longitude;
+
+  public GeoPoint(double latitude, double longitude) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+  }
+
+  /**
+   * 좌표 범위 확인
+   *
+   * @return 위도 -90 ~ 90, 경도 -180 ~ 180 범위이면 true
+   */
+  public boolean isValid() {
+    return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+  }
+
+  /**
+   * 하버사인 공식으로 두 좌표 사이의 거리 계산
+   *
+   * @param other 다른 좌표
+   * @return 거리(km)
+   */
+  public double distanceKm(GeoPoint other) {
+    double deltaLatitude = Math.toRadians(other.latitude - latitude);
+    double deltaLongitude = Math.toRadians(other.longitude - longitude);
+    double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+        + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+        * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
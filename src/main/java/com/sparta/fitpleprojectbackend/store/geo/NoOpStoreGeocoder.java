@@ -0,0 +1,16 @@
+package com.sparta.fitpleprojectbackend.store.geo;
+
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 지오코더, 외부 API 없이 좌표를 요청에 포함된 값으로만 받음
+ */
+@Component
+public class NoOpStoreGeocoder implements StoreGeocoder {
+
+  @Override
+  public Optional<GeoPoint> geocode(String address, String streetAddress, String postalCode) {
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,20 @@
+package com.sparta.fitpleprojectbackend.store.geo;
+
+import java.util.Optional;
+
+/**
+ * 매장 주소를 좌표로 변환하는 지오코딩 연동 지점
+ * 외부 지오코딩 API를 연동할 때 이 인터페이스의 구현체를 @Primary 빈으로 등록
+ */
+public interface StoreGeocoder {
+
+  /**
+   * 주소를 좌표로 변환
+   *
+   * @param address       지번 주소
+   * @param streetAddress 도로명 주소
+   * @param postalCode    우편번호
+   * @return 변환된 좌표, 변환할 수 없으면 empty
+   */
+  Optional<GeoPoint> geocode(String address, String streetAddress, String postalCode);
+}
@@ -0,0 +1,229 @@
+package com.sparta.fitpleprojectbackend.store.geo;
+
+import com.sparta.fitpleprojectbackend.store.dto.StoreLocation;
+import com.sparta.fitpleprojectbackend.store.dto.StoreNearbyResponse;
+import com.sparta.fitpleprojectbackend.store.repository.StoreRepository;
+import com.sparta.fitpleprojectbackend.store.service.StoreChangedEvent;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장 좌표의 메모리 격자 인덱스
+ * 위도/경도를 일정 크기의 격자로 나누고, 검색 지점의 격자부터 바깥 고리 방향으로 넓혀가며 가까운 매장을 찾음
+ */
+@Slf4j
+@Component
+public class StoreSpatialIndex {
+
+  private static final double KM_PER_DEGREE = 111.32;
+
+  private final StoreRepository storeRepository;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final double cellDegrees;
+  private final int maxRing;
+
+  private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+  private final Map<Long, Set<IndexedStore>> cells = new ConcurrentHashMap<>();
+
+  public StoreSpatialIndex(StoreRepository storeRepository,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${store.spatial-index.cell-degrees:0.01}") double cellDegrees) {
+    this.storeRepository = storeRepository;
+    this.listenerContainer = listenerContainer;
+    this.cellDegrees = cellDegrees;
+    this.maxRing = (int) Math.ceil(180 / cellDegrees);
+  }
+
+  /**
+   * 다른 노드에서 변경된 매장도 인덱스에 반영
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> refresh(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(StoreChangedEvent.CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시 좌표가 있는 모든 매장으로 인덱스 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    List<StoreLocation> locations = storeRepository.findAllLocated();
+    locations.forEach(this::put);
+    log.info("매장 공간 인덱스 구성 완료: {}개", locations.size());
+  }
+
+  /**
+   * 매장 등록, 수정, 삭제가 커밋된 뒤 해당 매장만 다시 반영
+   *
+   * @param event 변경된 매장 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    refresh(event.getStoreId());
+  }
+
+  /**
+   * 검색 지점에서 가까운 순으로 매장 조회
+   *
+   * @param origin   검색 지점
+   * @param limit    최대 매장 수
+   * @param radiusKm 검색 반경(km)
+   * @return 가까운 순으로 정렬된 매장 목록
+   */
+  public List<StoreNearbyResponse> findNearest(GeoPoint origin, int limit, double radiusKm) {
+    if (stores.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    //가장 먼 후보가 맨 앞에 오는 최대 힙으로 가까운 limit개만 유지
+    PriorityQueue<Candidate> nearest = new PriorityQueue<>(
+        Comparator.comparingDouble((Candidate candidate) -> candidate.distanceKm).reversed());
+    int originLatitudeCell = cellOf(origin.getLatitude());
+    int originLongitudeCell = cellOf(origin.getLongitude());
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int latitudeCell = originLatitudeCell - ring;
+          latitudeCell <= originLatitudeCell + ring; latitudeCell++) {
+        boolean edgeRow = Math.abs(latitudeCell - originLatitudeCell) == ring;
+        int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+        for (int longitudeCell = originLongitudeCell - ring;
+            longitudeCell <= originLongitudeCell + ring; longitudeCell += step) {
+          collect(cells.get(cellKey(latitudeCell, longitudeCell)), origin, radiusKm, limit,
+              nearest);
+        }
+      }
+
+      //다음 고리부터는 최소 이 거리 이상 떨어져 있으므로 더 가까운 매장이 나올 수 없음
+      double lowerBoundKm = ringDistanceLowerBound(origin, ring);
+      if (lowerBoundKm > radiusKm
+          || (nearest.size() == limit && nearest.peek().distanceKm <= lowerBoundKm)) {
+        break;
+      }
+    }
+
+    List<Candidate> result = new ArrayList<>(nearest);
+    result.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.distanceKm));
+    return result.stream()
+        .map(candidate -> new StoreNearbyResponse(candidate.store.storeId,
+            candidate.store.storeName, candidate.distanceKm))
+        .toList();
+  }
+
+  private void refresh(Long storeId) {
+    Optional<StoreLocation> location = storeRepository.findLocationById(storeId);
+    if (location.isPresent()) {
+      put(location.get());
+    } else {
+      remove(storeId);
+    }
+  }
+
+  private synchronized void put(StoreLocation location) {
+    remove(location.getId());
+    if (location.getLatitude() == null || location.getLongitude() == null) {
+      return;
+    }
+    IndexedStore store = new IndexedStore(location.getId(), location.getStoreName(),
+        new GeoPoint(location.getLatitude(), location.getLongitude()));
+    stores.put(store.storeId, store);
+    cells.computeIfAbsent(cellKey(store.point), key -> ConcurrentHashMap.newKeySet())
+        .add(store);
+  }
+
+  private synchronized void remove(Long storeId) {
+    IndexedStore previous = stores.remove(storeId);
+    if (previous == null) {
+      return;
+    }
+    long key = cellKey(previous.point);
+    Set<IndexedStore> cell = cells.get(key);
+    if (cell != null) {
+      cell.remove(previous);
+      if (cell.isEmpty()) {
+        cells.remove(key);
+      }
+    }
+  }
+
+  private void collect(Set<IndexedStore> cell, GeoPoint origin, double radiusKm, int limit,
+      PriorityQueue<Candidate> nearest) {
+    if (cell == null) {
+      return;
+    }
+    for (IndexedStore store : cell) {
+      double distanceKm = origin.distanceKm(store.point);
+      if (distanceKm > radiusKm) {
+        continue;
+      }
+      if (nearest.size() < limit) {
+        nearest.add(new Candidate(store, distanceKm));
+      } else if (distanceKm < nearest.peek().distanceKm) {
+        nearest.poll();
+        nearest.add(new Candidate(store, distanceKm));
+      }
+    }
+  }
+
+  /**
+   * ring번째 고리 바깥에 있는 매장까지의 최소 거리, 고위도일수록 경도 1도의 거리가 짧아지는 것을 반영
+   */
+  private double ringDistanceLowerBound(GeoPoint origin, int ring) {
+    double farthestLatitude = Math.min(89.9, Math.abs(origin.getLatitude()) + ring * cellDegrees);
+    return ring * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+  }
+
+  private int cellOf(double degrees) {
+    return (int) Math.floor(degrees / cellDegrees);
+  }
+
+  private long cellKey(GeoPoint point) {
+    return cellKey(cellOf(point.getLatitude()), cellOf(point.getLongitude()));
+  }
+
+  private long cellKey(int latitudeCell, int longitudeCell) {
+    return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+  }
+
+  private static final class IndexedStore {
+
+    private final Long storeId;
+    private final String storeName;
+    private final GeoPoint point;
+
+    private IndexedStore(Long storeId, String storeName, GeoPoint point) {
+      this.storeId = storeId;
+      this.storeName = storeName;
+      this.point = point;
+    }
+  }
+
+  private static final class Candidate {
+
+    private final IndexedStore store;
+    private final double distanceKm;
+
+    private Candidate(IndexedStore store, double distanceKm) {
+      this.store = store;
+      this.distanceKm = distanceKm;
+    }
+  }
+}
@@ -1,12 +1,90 @@
 package com.sparta.fitpleprojectbackend.store.repository;
 
+import com.sparta.fitpleprojectbackend.store.dto.StoreLocation;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSearchDocument;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSummary;
 import com.sparta.fitpleprojectbackend.store.entity.Store;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
-  List<Store> findAllByOwnerAccountId(String accountId);
+  String SUMMARY_SELECT =
+      "select s.id as id, s.storeName as storeName, s.createdAt as createdAt from Store s";
+
+  String LOCATION_SELECT = "select s.id as id, s.storeName as storeName,"
+      + " s.latitude as latitude, s.longitude as longitude from Store s";
+
+  /**
+   * 점주와 함께 매장 조회 (상세 캐시 적재용)
+   */
+  @Query("select s from Store s join fetch s.owner where s.id = :storeId")
+  Optional<Store> findWithOwnerById(@Param("storeId") Long storeId);
+
+  String SEARCH_DOCUMENT_SELECT =
+      "select s.id as id, s.storeName as storeName, s.storeInfo as storeInfo from Store s";
+
+  /**
+   * 모든 매장의 검색 대상 컬럼 (검색 인덱스 구성용)
+   */
+  @Query(SEARCH_DOCUMENT_SELECT)
+  List<StoreSearchDocument> findAllSearchDocuments();
+
+  /**
+   * 매장의 검색 대상 컬럼 조회 (검색 인덱스 갱신용)
+   */
+  @Query(SEARCH_DOCUMENT_SELECT + " where s.id = :storeId")
+  Optional<StoreSearchDocument> findSearchDocumentById(@Param("storeId") Long storeId);
+
+  /**
+   * 좌표가 등록된 모든 매장의 위치 (공간 인덱스 구성용)
+   */
+  @Query(LOCATION_SELECT + " where s.latitude is not null and s.longitude is not null")
+  List<StoreLocation> findAllLocated();
+
+  /**
+   * 매장 위치 조회 (공간 인덱스 갱신용)
+   */
+  @Query(LOCATION_SELECT + " where s.id = :storeId")
+  Optional<StoreLocation> findLocationById(@Param("storeId") Long storeId);
+
+  /**
+   * 등록 순 첫 페이지 (idx_store_created_at_id 인덱스 사용)
+   */
+  @Query(SUMMARY_SELECT + " order by s.createdAt asc, s.id asc")
+  List<StoreSummary> findFirstPage(Pageable pageable);
+
+  /**
+   * 커서 이후의 등록 순 페이지, 페이지 깊이와 관계없이 인덱스 탐색 한 번으로 조회
+   */
+  @Query(SUMMARY_SELECT
+      + " where s.createdAt > :createdAt or (s.createdAt = :createdAt and s.id > :storeId)"
+      + " order by s.createdAt asc, s.id asc")
+  List<StoreSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+      @Param("storeId") Long storeId, Pageable pageable);
+
+  /**
+   * 점주의 등록 순 첫 페이지 (idx_store_owner_created_at_id 인덱스 사용)
+   */
+  @Query(SUMMARY_SELECT + " where s.owner.accountId = :accountId"
+      + " order by s.createdAt asc, s.id asc")
+  List<StoreSummary> findFirstPageByOwner(@Param("accountId") String accountId,
+      Pageable pageable);
+
+  /**
+   * 커서 이후의 점주 등록 순 페이지
+   */
+  @Query(SUMMARY_SELECT + " where s.owner.accountId = :accountId"
+      + " and (s.createdAt > :createdAt or (s.createdAt = :createdAt and s.id > :storeId))"
+      + " order by s.createdAt asc, s.id asc")
+  List<StoreSummary> findPageAfterByOwner(@Param("accountId") String accountId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("storeId") Long storeId,
+      Pageable pageable);
 }
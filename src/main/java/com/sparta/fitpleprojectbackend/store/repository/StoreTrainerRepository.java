@@ -0,0 +1,35 @@
+package com.sparta.fitpleprojectbackend.store.repository;
+
+import com.sparta.fitpleprojectbackend.store.dto.StoreTrainerSummary;
+import com.sparta.fitpleprojectbackend.store.entity.StoreTrainer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreTrainerRepository extends JpaRepository<StoreTrainer, Long> {
+
+  boolean existsByStoreIdAndTrainerId(Long storeId, Long trainerId);
+
+  Optional<StoreTrainer> findByStoreIdAndTrainerId(Long storeId, Long trainerId);
+
+  @Modifying
+  @Query("delete from StoreTrainer st where st.store.id = :storeId")
+  void deleteAllByStoreId(@Param("storeId") Long storeId);
+
+  /**
+   * 여러 매장의 활동 중인 트레이너를 한 번에 조회 (uk_store_trainer 인덱스 사용)
+   */
+  @Query("select st.store.id as storeId, t.id as id, t.trainerName as trainerName,"
+      + " t.trainerPicture as trainerPicture, t.ptPrice as ptPrice,"
+      + " t.isMembership as membership"
+      + " from StoreTrainer st join st.trainer t"
+      + " where st.store.id in :storeIds and t.trainerStatus = 'ACTIVE'"
+      + " order by st.store.id asc, t.id asc")
+  List<StoreTrainerSummary> findRosters(@Param("storeIds") Collection<Long> storeIds);
+}
@@ -0,0 +1,359 @@
+package com.sparta.fitpleprojectbackend.store.search;
+
+import com.sparta.fitpleprojectbackend.store.dto.StoreSearchDocument;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSimpleResponse;
+import com.sparta.fitpleprojectbackend.store.repository.StoreRepository;
+import com.sparta.fitpleprojectbackend.store.service.StoreChangedEvent;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장 명, 매장 설명의 메모리 n-gram 역색인
+ * 한국어는 조사가 붙어 공백 단위 토큰으로는 검색이 어렵기 때문에 단어를 글자 단위 1-gram, 2-gram으로 색인하고,
+ * 후보를 원문과 다시 비교해 n-gram 교집합의 오탐을 제거함
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex {
+
+  /**
+   * 한글 호환 자모의 초성 순서 (입력 중인 마지막 글자가 자음만 있는 경우 처리)
+   */
+  private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final char HANGUL_BASE = 0xAC00;
+  private static final char HANGUL_LAST = 0xD7A3;
+  private static final int JONGSEONG_COUNT = 28;
+  private static final int SYLLABLES_PER_CHOSEONG = 21 * JONGSEONG_COUNT;
+
+  private final StoreRepository storeRepository;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+  private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+  public StoreSearchIndex(StoreRepository storeRepository,
+      RedisMessageListenerContainer listenerContainer) {
+    this.storeRepository = storeRepository;
+    this.listenerContainer = listenerContainer;
+  }
+
+  /**
+   * 다른 노드에서 변경된 매장도 인덱스에 반영
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> refresh(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(StoreChangedEvent.CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시 모든 매장으로 인덱스 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    List<StoreSearchDocument> documents = storeRepository.findAllSearchDocuments();
+    documents.forEach(this::put);
+    log.info("매장 검색 인덱스 구성 완료: {}개", documents.size());
+  }
+
+  /**
+   * 매장 등록, 수정, 삭제가 커밋된 뒤 해당 매장만 다시 색인
+   *
+   * @param event 변경된 매장 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    refresh(event.getStoreId());
+  }
+
+  /**
+   * 검색어의 모든 단어를 포함하는 매장 조회
+   * 매장 명이 검색어로 시작하는 매장, 매장 명에 포함된 매장, 매장 설명에만 포함된 매장 순으로 정렬
+   *
+   * @param query 검색어
+   * @param limit 최대 매장 수
+   * @return 매장 ID와 매장 명 목록
+   */
+  public List<StoreSimpleResponse> search(String query, int limit) {
+    List<String> words = tokenize(query);
+    if (words.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    Set<String> grams = new HashSet<>();
+    List<Set<Long>> postingLists = new ArrayList<>();
+    for (String word : words) {
+      String completed = completedPart(word);
+      grams.addAll(grams(completed));
+      if (completed.length() < word.length() && isOpenSyllable(word.charAt(completed.length()))) {
+        Set<Long> posting = openSyllablePosting(completed, word.charAt(completed.length()));
+        if (posting.isEmpty()) {
+          return List.of();
+        }
+        postingLists.add(posting);
+      }
+    }
+
+    //가장 짧은 색인 목록을 기준으로 나머지 목록과 교집합
+    for (String gram : grams) {
+      Set<Long> posting = postings.get(gram);
+      if (posting == null) {
+        return List.of();
+      }
+      postingLists.add(posting);
+    }
+    if (postingLists.isEmpty()) {
+      return List.of();
+    }
+    postingLists.sort(Comparator.comparingInt(Set::size));
+
+    List<Match> matches = new ArrayList<>();
+    for (Long storeId : postingLists.get(0)) {
+      if (!containsInAll(postingLists, storeId)) {
+        continue;
+      }
+      IndexedStore store = stores.get(storeId);
+      if (store == null) {
+        continue;
+      }
+      int rank = rank(store, words);
+      if (rank >= 0) {
+        matches.add(new Match(store, rank));
+      }
+    }
+
+    return matches.stream()
+        .sorted(Comparator.comparingInt((Match match) -> match.rank)
+            .thenComparingInt(match -> match.store.storeName.length())
+            .thenComparing(match -> match.store.storeId))
+        .limit(limit)
+        .map(match -> new StoreSimpleResponse(match.store.storeId, match.store.storeName))
+        .toList();
+  }
+
+  private void refresh(Long storeId) {
+    Optional<StoreSearchDocument> document = storeRepository.findSearchDocumentById(storeId);
+    if (document.isPresent()) {
+      put(document.get());
+    } else {
+      remove(storeId);
+    }
+  }
+
+  private synchronized void put(StoreSearchDocument document) {
+    remove(document.getId());
+    String name = normalize(document.getStoreName());
+    String info = normalize(document.getStoreInfo());
+    Set<String> grams = new HashSet<>();
+    for (String word : tokenize(name + " " + info)) {
+      for (int i = 0; i < word.length(); i++) {
+        grams.add(word.substring(i, i + 1));
+      }
+      grams.addAll(grams(word));
+    }
+
+    IndexedStore store = new IndexedStore(document.getId(), document.getStoreName(), name, info,
+        grams);
+    stores.put(store.storeId, store);
+    for (String gram : grams) {
+      postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(store.storeId);
+    }
+  }
+
+  private synchronized void remove(Long storeId) {
+    IndexedStore previous = stores.remove(storeId);
+    if (previous == null) {
+      return;
+    }
+    for (String gram : previous.grams) {
+      Set<Long> posting = postings.get(gram);
+      if (posting != null) {
+        posting.remove(storeId);
+        if (posting.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private boolean containsInAll(List<Set<Long>> postingLists, Long storeId) {
+    for (int i = 1; i < postingLists.size(); i++) {
+      if (!postingLists.get(i).contains(storeId)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 검색 순위, 일치하지 않으면 -1
+   */
+  private int rank(IndexedStore store, List<String> words) {
+    boolean allInName = true;
+    for (String word : words) {
+      boolean inName = indexOf(store.normalizedName, word) >= 0;
+      if (!inName && indexOf(store.normalizedInfo, word) < 0) {
+        return -1;
+      }
+      allInName &= inName;
+    }
+    if (!allInName) {
+      return 2;
+    }
+    return indexOf(store.normalizedName, words.get(0)) == 0 ? 0 : 1;
+  }
+
+  /**
+   * 단어의 위치 검색, 마지막 글자는 입력 중일 수 있으므로 matchesLast 규칙으로 비교
+   */
+  private int indexOf(String text, String word) {
+    int last = word.length() - 1;
+    String prefix = word.substring(0, last);
+    for (int index = 0; index + last < text.length(); index++) {
+      if (text.startsWith(prefix, index)
+          && matchesLast(text.charAt(index + last), word.charAt(last))) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 입력 중인 마지막 글자 비교
+   * 자음만 있으면 해당 초성으로 시작하는 글자, 받침이 없는 글자면 초성과 중성이 같은 글자와 일치
+   * ("헬스ㅈ", "헬스자" -> "헬스장")
+   * 다음 글자의 초성이 될 자음이 받침으로 붙어 있는 경우("자유"를 입력하는 중의 "장")는 처리하지 않음
+   */
+  private boolean matchesLast(char textChar, char wordChar) {
+    int choseong = CHOSEONG.indexOf(wordChar);
+    if (choseong >= 0) {
+      return choseongOf(textChar) == choseong;
+    }
+    if (isOpenSyllable(wordChar)) {
+      int jongseong = textChar - wordChar;
+      return jongseong >= 0 && jongseong < JONGSEONG_COUNT;
+    }
+    return textChar == wordChar;
+  }
+
+  /**
+   * 받침 없는 글자로 끝나는 단어의 조회용 색인 목록, 받침이 붙은 글자까지 모두 합침
+   */
+  private Set<Long> openSyllablePosting(String completed, char openSyllable) {
+    String previous = completed.isEmpty() ? "" : completed.substring(completed.length() - 1);
+    Set<Long> posting = new HashSet<>();
+    for (int jongseong = 0; jongseong < JONGSEONG_COUNT; jongseong++) {
+      Set<Long> variant = postings.get(previous + (char) (openSyllable + jongseong));
+      if (variant != null) {
+        posting.addAll(variant);
+      }
+    }
+    return posting;
+  }
+
+  private boolean isSyllable(char c) {
+    return c >= HANGUL_BASE && c <= HANGUL_LAST;
+  }
+
+  private boolean isOpenSyllable(char c) {
+    return isSyllable(c) && (c - HANGUL_BASE) % JONGSEONG_COUNT == 0;
+  }
+
+  private int choseongOf(char c) {
+    if (isSyllable(c)) {
+      return (c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG;
+    }
+    return CHOSEONG.indexOf(c);
+  }
+
+  /**
+   * 입력 중일 수 있는 마지막 글자(자음만 있거나 받침이 없는 글자)를 제외한 단어 부분 (색인 조회용)
+   */
+  private String completedPart(String word) {
+    char last = word.charAt(word.length() - 1);
+    if (CHOSEONG.indexOf(last) >= 0 || isOpenSyllable(last)) {
+      return word.substring(0, word.length() - 1);
+    }
+    return word;
+  }
+
+  /**
+   * 검색어 단어의 조회용 n-gram, 한 글자는 1-gram, 두 글자 이상은 2-gram
+   */
+  private Set<String> grams(String word) {
+    Set<String> grams = new HashSet<>();
+    if (word.length() == 1) {
+      grams.add(word);
+    }
+    for (int i = 0; i + 1 < word.length(); i++) {
+      grams.add(word.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  private List<String> tokenize(String text) {
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+    return List.of(normalized.split(" "));
+  }
+
+  private String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFC)
+        .toLowerCase(Locale.ROOT)
+        .replaceAll("\\s+", " ")
+        .trim();
+  }
+
+  private static final class IndexedStore {
+
+    private final Long storeId;
+    private final String storeName;
+    private final String normalizedName;
+    private final String normalizedInfo;
+    private final Set<String> grams;
+
+    private IndexedStore(Long storeId, String storeName, String normalizedName,
+        String normalizedInfo, Set<String> grams) {
+      this.storeId = storeId;
+      this.storeName = storeName;
+      this.normalizedName = normalizedName;
+      this.normalizedInfo = normalizedInfo;
+      this.grams = grams;
+    }
+  }
+
+  private static final class Match {
+
+    private final IndexedStore store;
+    private final int rank;
+
+    private Match(IndexedStore store, int rank) {
+      this.store = store;
+      this.rank = rank;
+    }
+  }
+}
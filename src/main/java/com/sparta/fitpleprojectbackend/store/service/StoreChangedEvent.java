@@ -0,0 +1,21 @@
+package com.sparta.fitpleprojectbackend.store.service;
+
+import lombok.Getter;
+
+/**
+ * 매장 정보가 수정되거나 삭제되었음을 알리는 이벤트
+ */
+@Getter
+public class StoreChangedEvent {
+
+  /**
+   * 다른 노드에 변경된 매장 ID를 전파하는 Redis 채널
+   */
+  public static final String CHANNEL = "store-changed";
+
+  private final Long storeId;
+
+  public StoreChangedEvent(Long storeId) {
+    this.storeId = storeId;
+  }
+}
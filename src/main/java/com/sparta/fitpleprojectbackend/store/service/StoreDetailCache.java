@@ -0,0 +1,173 @@
+package com.sparta.fitpleprojectbackend.store.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.fitpleprojectbackend.store.dto.StoreDetail;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장 상세 정보 2단계 캐시 (로컬 캐시 -> Redis -> DB)
+ * 매장 수정, 삭제가 커밋되면 Redis 항목을 지우고 다른 노드의 로컬 캐시에도 무효화를 전파
+ * 무효화마다 세대 번호를 올리고, DB 조회 전에 읽은 세대가 그대로일 때만 Redis에 다시 저장해
+ * 무효화 이전에 조회한 값이 삭제 직후에 저장되어 TTL 동안 남는 것을 막음
+ */
+@Slf4j
+@Component
+public class StoreDetailCache {
+
+  private static final String KEY_PREFIX = "store:detail:";
+
+  /**
+   * 세대 키는 값 키보다 오래 유지해 조회 도중 만료되어 세대가 되돌아가지 않게 함
+   */
+  private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+  /**
+   * 값을 지우고 세대를 올림
+   */
+  private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) "
+          + "local generation = redis.call('INCR', KEYS[2]) "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+          + "return generation",
+      Long.class);
+
+  /**
+   * 조회 전에 읽은 세대가 현재 세대와 같을 때만 저장(1), 그 사이 무효화되었으면 0
+   */
+  private static final RedisScript<Long> WRITE_BACK_SCRIPT = new DefaultRedisScript<>(
+      "local generation = redis.call('GET', KEYS[2]) or '0' "
+          + "if generation ~= ARGV[1] then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+          + "return 1",
+      Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final Cache<Long, StoreDetail> localCache;
+  private final boolean redisEnabled;
+  private final Duration redisTtl;
+
+  public StoreDetailCache(RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper,
+      @Value("${store.detail-cache.maximum-size:10000}") long maximumSize,
+      @Value("${store.detail-cache.local-ttl-seconds:60}") long localTtlSeconds,
+      @Value("${store.detail-cache.redis.enabled:true}") boolean redisEnabled,
+      @Value("${store.detail-cache.redis.ttl-seconds:600}") long redisTtlSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+        .recordStats()
+        .build();
+    this.redisEnabled = redisEnabled;
+    this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+  }
+
+  /**
+   * 다른 노드에서 발행한 무효화 이벤트 구독
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> localCache.invalidate(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(StoreChangedEvent.CHANNEL));
+  }
+
+  /**
+   * 캐시된 매장 상세 정보를 조회, 없으면 loader로 조회 후 보관
+   *
+   * @param storeId 매장 ID
+   * @param loader  캐시 미스 시 DB에서 매장 상세 정보를 조회하는 함수
+   * @return 매장 상세 정보
+   */
+  public StoreDetail get(Long storeId, Function<Long, StoreDetail> loader) {
+    return localCache.get(storeId, id -> loadThroughRedis(id, loader));
+  }
+
+  /**
+   * 매장 수정, 삭제 트랜잭션이 커밋된 뒤 캐시 무효화
+   *
+   * @param event 변경된 매장 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    Long storeId = event.getStoreId();
+    localCache.invalidate(storeId);
+    try {
+      if (redisEnabled) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys(storeId),
+            String.valueOf(GENERATION_TTL.toMillis()));
+      }
+      redisTemplate.convertAndSend(StoreChangedEvent.CHANNEL, storeId.toString());
+    } catch (Exception e) {
+      log.warn("매장 캐시 무효화 전파에 실패했습니다. storeId={}: {}", storeId, e.getMessage());
+    }
+  }
+
+  /**
+   * 로컬 캐시 적중률
+   *
+   * @return 0 ~ 1 사이의 적중률
+   */
+  public double getHitRate() {
+    return localCache.stats().hitRate();
+  }
+
+  private StoreDetail loadThroughRedis(Long storeId, Function<Long, StoreDetail> loader) {
+    if (!redisEnabled) {
+      return loader.apply(storeId);
+    }
+
+    List<String> keys = keys(storeId);
+    String generation = null;
+    try {
+      //값과 세대를 한 번에 읽어 DB 조회 전의 세대를 기억
+      List<String> cached = redisTemplate.opsForValue().multiGet(keys);
+      if (cached != null && cached.get(0) != null) {
+        return objectMapper.readValue(cached.get(0), StoreDetail.class);
+      }
+      if (cached != null) {
+        generation = cached.get(1) != null ? cached.get(1) : "0";
+      }
+    } catch (Exception e) {
+      log.warn("Redis 매장 캐시 조회에 실패했습니다. storeId={}: {}", storeId, e.getMessage());
+    }
+
+    StoreDetail storeDetail = loader.apply(storeId);
+    if (generation == null) {
+      return storeDetail;
+    }
+    try {
+      redisTemplate.execute(WRITE_BACK_SCRIPT, keys, generation,
+          objectMapper.writeValueAsString(storeDetail), String.valueOf(redisTtl.toMillis()));
+    } catch (Exception e) {
+      log.warn("Redis 매장 캐시 저장에 실패했습니다. storeId={}: {}", storeId, e.getMessage());
+    }
+    return storeDetail;
+  }
+
+  private List<String> keys(Long storeId) {
+    String key = KEY_PREFIX + "{" + storeId + "}";
+    return Arrays.asList(key, key + ":generation");
+  }
+}
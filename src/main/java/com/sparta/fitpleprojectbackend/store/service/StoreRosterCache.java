@@ -0,0 +1,112 @@
+package com.sparta.fitpleprojectbackend.store.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.fitpleprojectbackend.store.dto.StoreTrainerSummary;
+import com.sparta.fitpleprojectbackend.store.repository.StoreTrainerRepository;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerGetResponse;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장별 소속 트레이너 목록 캐시
+ * 캐시에 없는 매장들은 한 번의 쿼리로 함께 조회하고, 소속 변경, 매장 변경 시 무효화
+ * 트레이너 정보는 이 서비스 밖에서 변경되므로 트레이너 이름, 가격 등은 ttl-seconds가 지나야 반영됨
+ */
+@Slf4j
+@Component
+public class StoreRosterCache {
+
+  private final StoreTrainerRepository storeTrainerRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final Cache<Long, List<TrainerGetResponse>> rosters;
+
+  public StoreRosterCache(StoreTrainerRepository storeTrainerRepository,
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${store.roster-cache.maximum-size:10000}") long maximumSize,
+      @Value("${store.roster-cache.ttl-seconds:300}") long ttlSeconds) {
+    this.storeTrainerRepository = storeTrainerRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.rosters = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 다른 노드에서 발행한 소속 변경, 매장 변경 이벤트 구독
+   */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(
+        (message, pattern) -> rosters.invalidate(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        List.of(new ChannelTopic(StoreRosterChangedEvent.CHANNEL),
+            new ChannelTopic(StoreChangedEvent.CHANNEL)));
+  }
+
+  /**
+   * 여러 매장의 소속 트레이너 목록 조회
+   *
+   * @param storeIds 매장 ID 목록
+   * @return 매장 ID별 소속 트레이너 목록, 트레이너가 없는 매장은 빈 목록
+   */
+  public Map<Long, List<TrainerGetResponse>> getAll(Collection<Long> storeIds) {
+    return rosters.getAll(storeIds, this::loadAll);
+  }
+
+  /**
+   * 소속 변경이 커밋된 뒤 해당 매장의 목록을 무효화하고 다른 노드에 전파
+   *
+   * @param event 소속 트레이너가 변경된 매장 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRosterChanged(StoreRosterChangedEvent event) {
+    rosters.invalidate(event.getStoreId());
+    try {
+      redisTemplate.convertAndSend(StoreRosterChangedEvent.CHANNEL,
+          event.getStoreId().toString());
+    } catch (Exception e) {
+      log.warn("매장 트레이너 목록 무효화 전파에 실패했습니다. storeId={}: {}", event.getStoreId(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 매장이 삭제되면 소속 트레이너 목록도 무효화
+   *
+   * @param event 변경된 매장 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStoreChanged(StoreChangedEvent event) {
+    rosters.invalidate(event.getStoreId());
+  }
+
+  private Map<Long, List<TrainerGetResponse>> loadAll(Set<? extends Long> storeIds) {
+    Map<Long, List<TrainerGetResponse>> loaded = new HashMap<>();
+    storeIds.forEach(storeId -> loaded.put(storeId, new ArrayList<>()));
+    for (StoreTrainerSummary summary : storeTrainerRepository.findRosters(List.copyOf(storeIds))) {
+      loaded.get(summary.getStoreId()).add(new TrainerGetResponse(summary));
+    }
+    loaded.replaceAll((storeId, trainers) -> List.copyOf(trainers));
+    return loaded;
+  }
+}
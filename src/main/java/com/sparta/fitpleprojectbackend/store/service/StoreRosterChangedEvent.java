@@ -0,0 +1,21 @@
+package com.sparta.fitpleprojectbackend.store.service;
+
+import lombok.Getter;
+
+/**
+ * 매장 소속 트레이너가 추가되거나 제외되었음을 알리는 이벤트
+ */
+@Getter
+public class StoreRosterChangedEvent {
+
+  /**
+   * 다른 노드에 소속 트레이너가 변경된 매장 ID를 전파하는 Redis 채널
+   */
+  public static final String CHANNEL = "store-roster-changed";
+
+  private final Long storeId;
+
+  public StoreRosterChangedEvent(Long storeId) {
+    this.storeId = storeId;
+  }
+}
@@ -1,16 +1,32 @@
 package com.sparta.fitpleprojectbackend.store.service;
 
 import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.enums.Role;
 import com.sparta.fitpleprojectbackend.owner.entity.Owner;
+import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
+import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
+import com.sparta.fitpleprojectbackend.store.dto.StoreCursor;
+import com.sparta.fitpleprojectbackend.store.dto.StoreDetail;
+import com.sparta.fitpleprojectbackend.store.dto.StoreNearbyResponse;
 import com.sparta.fitpleprojectbackend.store.dto.StoreRequest;
 import com.sparta.fitpleprojectbackend.store.dto.StoreResponse;
 import com.sparta.fitpleprojectbackend.store.dto.StoreSimpleResponse;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSliceResponse;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSummary;
 import com.sparta.fitpleprojectbackend.store.entity.Store;
 import com.sparta.fitpleprojectbackend.store.exception.StoreException;
+import com.sparta.fitpleprojectbackend.store.geo.GeoPoint;
+import com.sparta.fitpleprojectbackend.store.geo.StoreGeocoder;
+import com.sparta.fitpleprojectbackend.store.geo.StoreSpatialIndex;
+import com.sparta.fitpleprojectbackend.store.search.StoreSearchIndex;
 import com.sparta.fitpleprojectbackend.store.repository.StoreRepository;
-import java.util.Comparator;
+import com.sparta.fitpleprojectbackend.store.repository.StoreTrainerRepository;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,20 +35,35 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StoreService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final double MAX_NEARBY_RADIUS_KM = 50;
+
   private final StoreRepository storeRepository;
+  private final OwnerRepository ownerRepository;
+  private final StoreTrainerRepository storeTrainerRepository;
+  private final StoreDetailCache storeDetailCache;
+  private final StoreSpatialIndex storeSpatialIndex;
+  private final StoreGeocoder storeGeocoder;
+  private final StoreSearchIndex storeSearchIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 매장 등록
    *
-   * @param request 등록할 매장의 세부 정보
+   * @param request     등록할 매장의 세부 정보
+   * @param userDetails 인증된 사용자의 정보
    * @return 등록된 매장의 세부 정보를 포함하는 응답 객체
    */
-  public StoreResponse createStore(StoreRequest request, Owner owner) {
-    if (owner == null) {
+  public StoreResponse createStore(StoreRequest request, UserDetailsImpl userDetails) {
+    if (userDetails.getRole() != Role.OWNER) {
       throw new StoreException(ErrorType.FORBIDDEN_OPERATION);
     }
+    Owner owner = userDetails.getOwner() != null ? userDetails.getOwner()
+        : ownerRepository.getReferenceById(userDetails.getUserId());
     Store store = new Store(request, owner);
+    store.updateLocation(resolveLocation(request));
     storeRepository.save(store);
+    eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
     return new StoreResponse(store);
   }
 
@@ -49,7 +80,16 @@ public class StoreService {
 
     validateUser(store, accountId);
 
+    //좌표를 알 수 없을 때는 주소가 바뀐 경우에만 기존 좌표를 지움
+    boolean addressChanged = !Objects.equals(store.getAddress(), request.getAddress())
+        || !Objects.equals(store.getStreetAddress(), request.getStreetAddress())
+        || !Objects.equals(store.getPostalCode(), request.getPostalCode());
+    GeoPoint location = resolveLocation(request);
     store.update(request);
+    if (location != null || addressChanged) {
+      store.updateLocation(location);
+    }
+    eventPublisher.publishEvent(new StoreChangedEvent(storeId));
     return new StoreResponse(store);
   }
 
@@ -58,25 +98,69 @@ public class StoreService {
    *
    * @param storeId 삭제하려는 매장의 id 값
    */
+  @Transactional
   public void deleteStore(Long storeId, String accountId) {
     Store store = findStoreById(storeId);
 
     validateUser(store, accountId);
 
+    storeTrainerRepository.deleteAllByStoreId(storeId);
     storeRepository.delete(store);
+    eventPublisher.publishEvent(new StoreChangedEvent(storeId));
+  }
+
+  /**
+   * 매장 전체 조회 (등록 순, 키셋 페이지네이션)
+   *
+   * @param cursor 이전 페이지의 다음 커서, 첫 페이지는 null
+   * @param size   페이지 크기
+   * @return 매장 ID와 매장 명 목록, 다음 페이지 커서
+   */
+  @Transactional(readOnly = true)
+  public StoreSliceResponse findAll(String cursor, int size) {
+    Pageable pageable = pageRequest(size);
+    List<StoreSummary> storeList;
+    if (cursor == null || cursor.isBlank()) {
+      storeList = storeRepository.findFirstPage(pageable);
+    } else {
+      StoreCursor storeCursor = StoreCursor.decode(cursor);
+      storeList = storeRepository.findPageAfter(
+          storeCursor.getCreatedAt(), storeCursor.getStoreId(), pageable);
+    }
+    return toSlice(storeList, pageable.getPageSize() - 1);
+  }
+
+  /**
+   * 주변 매장 조회 (가까운 순)
+   *
+   * @param latitude  검색 지점 위도
+   * @param longitude 검색 지점 경도
+   * @param limit     최대 매장 수
+   * @param radiusKm  검색 반경(km)
+   * @return 가까운 순으로 정렬된 매장 ID, 매장 명, 거리
+   */
+  public List<StoreNearbyResponse> findNearby(double latitude, double longitude, int limit,
+      double radiusKm) {
+    GeoPoint origin = new GeoPoint(latitude, longitude);
+    if (!origin.isValid() || radiusKm <= 0) {
+      throw new StoreException(ErrorType.INVALID_INPUT);
+    }
+    return storeSpatialIndex.findNearest(origin, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE),
+        Math.min(radiusKm, MAX_NEARBY_RADIUS_KM));
   }
 
   /**
-   * 매장 전체 조회
+   * 매장 명, 매장 설명 검색 (입력 중인 검색어 자동완성 포함)
    *
-   * @return 등록된 모든 매장의 ID와 매장 명
+   * @param query 검색어
+   * @param limit 최대 매장 수
+   * @return 매장 ID와 매장 명 목록
    */
-  public List<StoreSimpleResponse> findAll() {
-    List<Store> storeList = storeRepository.findAll();
-    return storeList.stream()
-        .sorted(Comparator.comparing(Store::getCreatedAt))
-        .map(StoreSimpleResponse::new)
-        .toList();
+  public List<StoreSimpleResponse> search(String query, int limit) {
+    if (query == null || query.isBlank()) {
+      return List.of();
+    }
+    return storeSearchIndex.search(query, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
   }
 
   /**
@@ -86,23 +170,29 @@ public class StoreService {
    * @return 상세 조회한 매장의 상세 정보
    */
   public StoreResponse findById(Long storeId) {
-    Store store = findStoreById(storeId);
-
-    return new StoreResponse(store);
+    return storeDetailCache.get(storeId, this::loadStoreDetail).getStoreResponse();
   }
 
   /**
-   * 점주가 등록한 매장 전체 조회
+   * 점주가 등록한 매장 전체 조회 (등록 순, 키셋 페이지네이션)
    *
    * @param accountId 점주의 ID
-   * @return 점주가 등록한 모든 매장의 ID와 매장 명
+   * @param cursor    이전 페이지의 다음 커서, 첫 페이지는 null
+   * @param size      페이지 크기
+   * @return 점주가 등록한 매장의 ID와 매장 명 목록, 다음 페이지 커서
    */
-  public List<StoreSimpleResponse> findAllAdmin(String accountId) {
-    List<Store> storeList = storeRepository.findAllByOwnerAccountId(accountId);
-    return storeList.stream()
-        .sorted(Comparator.comparing(Store::getCreatedAt))
-        .map(StoreSimpleResponse::new)
-        .toList();
+  @Transactional(readOnly = true)
+  public StoreSliceResponse findAllAdmin(String accountId, String cursor, int size) {
+    Pageable pageable = pageRequest(size);
+    List<StoreSummary> storeList;
+    if (cursor == null || cursor.isBlank()) {
+      storeList = storeRepository.findFirstPageByOwner(accountId, pageable);
+    } else {
+      StoreCursor storeCursor = StoreCursor.decode(cursor);
+      storeList = storeRepository.findPageAfterByOwner(
+          accountId, storeCursor.getCreatedAt(), storeCursor.getStoreId(), pageable);
+    }
+    return toSlice(storeList, pageable.getPageSize() - 1);
   }
 
   /**
@@ -113,11 +203,54 @@ public class StoreService {
    * @return 조회한 매장의 상세 정보
    */
   public StoreResponse findAdminById(String accountId, Long storeId) {
-    Store store = findStoreById(storeId);
+    StoreDetail storeDetail = storeDetailCache.get(storeId, this::loadStoreDetail);
 
-    validateUser(store, accountId);
+    if (!storeDetail.getOwnerAccountId().equals(accountId)) {
+      throw new StoreException(ErrorType.INVALID_USER);
+    }
 
-    return new StoreResponse(store);
+    return storeDetail.getStoreResponse();
+  }
+
+  /**
+   * 다음 페이지 존재 여부를 알기 위해 요청 크기보다 하나 더 조회
+   */
+  private Pageable pageRequest(int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    return PageRequest.of(0, pageSize + 1);
+  }
+
+  private StoreSliceResponse toSlice(List<StoreSummary> storeList, int size) {
+    boolean hasNext = storeList.size() > size;
+    List<StoreSummary> page = hasNext ? storeList.subList(0, size) : storeList;
+    String nextCursor = null;
+    if (hasNext) {
+      StoreSummary last = page.get(page.size() - 1);
+      nextCursor = new StoreCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return new StoreSliceResponse(page.stream().map(StoreSimpleResponse::new).toList(),
+        nextCursor);
+  }
+
+  /**
+   * 요청에 좌표가 있으면 그대로 사용하고, 없으면 주소를 지오코딩
+   */
+  private GeoPoint resolveLocation(StoreRequest request) {
+    if (request.getLatitude() != null && request.getLongitude() != null) {
+      GeoPoint location = new GeoPoint(request.getLatitude(), request.getLongitude());
+      if (!location.isValid()) {
+        throw new StoreException(ErrorType.INVALID_INPUT);
+      }
+      return location;
+    }
+    return storeGeocoder.geocode(request.getAddress(), request.getStreetAddress(),
+        request.getPostalCode()).orElse(null);
+  }
+
+  private StoreDetail loadStoreDetail(Long storeId) {
+    return storeRepository.findWithOwnerById(storeId)
+        .map(StoreDetail::new)
+        .orElseThrow(() -> new StoreException(ErrorType.NOT_FOUND_STORE));
   }
 
   private Store findStoreById(long id) {
@@ -0,0 +1,109 @@
+package com.sparta.fitpleprojectbackend.store.service;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.store.entity.Store;
+import com.sparta.fitpleprojectbackend.store.entity.StoreTrainer;
+import com.sparta.fitpleprojectbackend.store.exception.StoreException;
+import com.sparta.fitpleprojectbackend.store.repository.StoreRepository;
+import com.sparta.fitpleprojectbackend.store.repository.StoreTrainerRepository;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerGetResponse;
+import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class StoreTrainerService {
+
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private final StoreRepository storeRepository;
+  private final StoreTrainerRepository storeTrainerRepository;
+  private final TrainerRepository trainerRepository;
+  private final StoreRosterCache storeRosterCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 매장에 트레이너 등록
+   *
+   * @param storeId   매장 ID
+   * @param trainerId 등록할 트레이너 ID
+   * @param accountId 점주의 ID
+   */
+  @Transactional
+  public void assignTrainer(Long storeId, Long trainerId, String accountId) {
+    Store store = findOwnedStore(storeId, accountId);
+    Trainer trainer = trainerRepository.findById(trainerId)
+        .filter(found -> "ACTIVE".equals(found.getTrainerStatus()))
+        .orElseThrow(() -> new StoreException(ErrorType.TRAINER_NOT_FOUND));
+
+    if (storeTrainerRepository.existsByStoreIdAndTrainerId(storeId, trainerId)) {
+      throw new StoreException(ErrorType.DUPLICATE_STORE_TRAINER);
+    }
+    try {
+      storeTrainerRepository.saveAndFlush(new StoreTrainer(store, trainer));
+    } catch (DataIntegrityViolationException e) {
+      //동시에 같은 트레이너를 등록한 경우 유니크 제약 조건으로 차단
+      throw new StoreException(ErrorType.DUPLICATE_STORE_TRAINER);
+    }
+    eventPublisher.publishEvent(new StoreRosterChangedEvent(storeId));
+  }
+
+  /**
+   * 매장에서 트레이너 제외
+   *
+   * @param storeId   매장 ID
+   * @param trainerId 제외할 트레이너 ID
+   * @param accountId 점주의 ID
+   */
+  @Transactional
+  public void unassignTrainer(Long storeId, Long trainerId, String accountId) {
+    findOwnedStore(storeId, accountId);
+    StoreTrainer storeTrainer = storeTrainerRepository
+        .findByStoreIdAndTrainerId(storeId, trainerId)
+        .orElseThrow(() -> new StoreException(ErrorType.NOT_FOUND_STORE_TRAINER));
+
+    storeTrainerRepository.delete(storeTrainer);
+    eventPublisher.publishEvent(new StoreRosterChangedEvent(storeId));
+  }
+
+  /**
+   * 매장 소속 트레이너 조회
+   *
+   * @param storeId 매장 ID
+   * @return 소속 트레이너 목록
+   */
+  public List<TrainerGetResponse> findTrainers(Long storeId) {
+    return storeRosterCache.getAll(List.of(storeId)).get(storeId);
+  }
+
+  /**
+   * 여러 매장의 소속 트레이너 일괄 조회
+   *
+   * @param storeIds 매장 ID 목록 (최대 100개)
+   * @return 매장 ID별 소속 트레이너 목록
+   */
+  public Map<Long, List<TrainerGetResponse>> findTrainers(List<Long> storeIds) {
+    LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(storeIds);
+    if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_SIZE) {
+      throw new StoreException(ErrorType.INVALID_INPUT);
+    }
+    return storeRosterCache.getAll(distinctIds);
+  }
+
+  private Store findOwnedStore(Long storeId, String accountId) {
+    Store store = storeRepository.findWithOwnerById(storeId)
+        .orElseThrow(() -> new StoreException(ErrorType.NOT_FOUND_STORE));
+    if (!store.getOwner().getAccountId().equals(accountId)) {
+      throw new StoreException(ErrorType.INVALID_USER);
+    }
+    return store;
+  }
+}
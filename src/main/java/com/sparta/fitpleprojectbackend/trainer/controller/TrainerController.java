@@ -1,28 +1,62 @@
 package com.sparta.fitpleprojectbackend.trainer.controller;
 
-import com.sparta.fitpleprojectbackend.trainer.dto.TrainerGetResponse;
-import com.sparta.fitpleprojectbackend.trainer.service.TrainerService;
-import java.util.List;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSearchCondition;
+import com.sparta.fitpleprojectbackend.trainer.service.TrainerDirectoryCache;
+import com.sparta.fitpleprojectbackend.trainer.service.TrainerDirectorySnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class TrainerController {
 
-  private final TrainerService trainerService;
+  private static final String ACTIVE_STATUS = "ACTIVE";
+
+  private final TrainerDirectoryCache trainerDirectoryCache;
 
   /**
-   * 트레이너 전체 조회
+   * 트레이너 목록 조회, 공개 목록이므로 활성 상태인 트레이너만 조회
    *
-   * @return ok, 전체 트레이너 리스트
+   * @param cursor     이전 응답의 다음 페이지 커서, 첫 페이지는 생략
+   * @param size       페이지 크기 (최대 100)
+   * @param minPrice   최소 PT 가격
+   * @param maxPrice   최대 PT 가격
+   * @param membership 회원권 유무
+   * @return ok, 트레이너 목록과 다음 페이지 커서 (If-None-Match가 일치하면 304 Not Modified)
    */
   @GetMapping("/trainers")
-  public ResponseEntity<List<TrainerGetResponse>> getAllTrainers() {
-    return ResponseEntity.ok(trainerService.getAllTrainers());
+  public ResponseEntity<byte[]> getTrainers(
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      @RequestParam(required = false) Boolean membership,
+      WebRequest webRequest
+  ) {
+    TrainerSearchCondition condition = new TrainerSearchCondition(cursor, size, minPrice,
+        maxPrice, membership, ACTIVE_STATUS);
+    TrainerDirectorySnapshot snapshot = trainerDirectoryCache.get(condition);
+
+    //캐시된 응답과 같은 ETag를 가진 클라이언트에는 본문 없이 응답
+    if (webRequest.checkNotModified(snapshot.getEtag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(snapshot.getEtag())
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(snapshot.getEtag())
+        .cacheControl(CacheControl.noCache())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(snapshot.getBody());
   }
 }
@@ -1,17 +1,25 @@
 package com.sparta.fitpleprojectbackend.trainer.dto;
 
-import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
 import lombok.Getter;
 
 @Getter
 public class TrainerGetResponse {
 
+  private Long trainerId;
+
   private String trainerName;
 
   private String trainerPicture;
 
-  public TrainerGetResponse(Trainer trainer) {
-    this.trainerName = trainer.getTrainerName();
-    this.trainerPicture = trainer.getTrainerPicture();
+  private Double ptPrice;
+
+  private boolean membership;
+
+  public TrainerGetResponse(TrainerSummary trainerSummary) {
+    this.trainerId = trainerSummary.getId();
+    this.trainerName = trainerSummary.getTrainerName();
+    this.trainerPicture = trainerSummary.getTrainerPicture();
+    this.ptPrice = trainerSummary.getPtPrice();
+    this.membership = Boolean.TRUE.equals(trainerSummary.getMembership());
   }
 }
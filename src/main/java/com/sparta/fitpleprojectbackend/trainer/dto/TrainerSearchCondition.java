@@ -0,0 +1,37 @@
+package com.sparta.fitpleprojectbackend.trainer.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 트레이너 목록 조회 조건, 값이 null인 조건은 적용하지 않음
+ * 목록 캐시의 키로도 사용되므로 페이지 크기는 생성 시 허용 범위로 맞춤
+ */
+@Getter
+@EqualsAndHashCode
+public class TrainerSearchCondition {
+
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final Long cursor;
+
+  private final int size;
+
+  private final Double minPrice;
+
+  private final Double maxPrice;
+
+  private final Boolean membership;
+
+  private final String status;
+
+  public TrainerSearchCondition(Long cursor, int size, Double minPrice, Double maxPrice,
+      Boolean membership, String status) {
+    this.cursor = cursor;
+    this.size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    this.minPrice = minPrice;
+    this.maxPrice = maxPrice;
+    this.membership = membership;
+    this.status = status;
+  }
+}
@@ -0,0 +1,23 @@
+package com.sparta.fitpleprojectbackend.trainer.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 트레이너 목록 한 페이지와 다음 페이지를 조회할 커서
+ */
+@Getter
+public class TrainerSliceResponse {
+
+  private List<TrainerGetResponse> trainers;
+
+  private Long nextCursor;
+
+  private boolean hasNext;
+
+  public TrainerSliceResponse(List<TrainerGetResponse> trainers, Long nextCursor) {
+    this.trainers = trainers;
+    this.nextCursor = nextCursor;
+    this.hasNext = nextCursor != null;
+  }
+}
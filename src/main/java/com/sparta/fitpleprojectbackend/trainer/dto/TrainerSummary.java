@@ -0,0 +1,17 @@
+package com.sparta.fitpleprojectbackend.trainer.dto;
+
+/**
+ * 트레이너 목록 조회용 프로젝션, 비밀번호 등 공개하지 않는 컬럼은 조회하지 않음
+ */
+public interface TrainerSummary {
+
+  Long getId();
+
+  String getTrainerName();
+
+  String getTrainerPicture();
+
+  Double getPtPrice();
+
+  Boolean getMembership();
+}
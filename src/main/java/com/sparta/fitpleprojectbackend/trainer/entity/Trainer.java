@@ -9,6 +9,8 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,14 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_trainer_status_membership_id",
+        columnList = "trainer_status, is_membership, id"),
+    @Index(name = "idx_trainer_status_price_id", columnList = "trainer_status, pt_price, id"),
+    @Index(name = "idx_trainer_email_status", columnList = "email, trainer_status"),
+    @Index(name = "idx_trainer_phone_number_status",
+        columnList = "trainer_phone_number, trainer_status")
+})
 public class Trainer extends TimeStamped {
 
   @Id
@@ -1,8 +1,13 @@
 package com.sparta.fitpleprojectbackend.trainer.repository;
 
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSummary;
 import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TrainerRepository extends JpaRepository<Trainer, Long> {
@@ -14,4 +19,21 @@ public interface TrainerRepository extends JpaRepository<Trainer, Long> {
   Optional<Trainer> findByTrainerPhoneNumberAndTrainerStatus(String phoneNumber, String status);
 
   Optional<Trainer> findByAccountIdAndTrainerStatus(String username, String active);
-}
\ No newline at end of file
+
+  /**
+   * 조건에 맞는 트레이너 목록을 ID 순 키셋 페이지로 조회 (idx_trainer_status_membership_id 인덱스 사용)
+   * 조건 값이 null이면 해당 조건은 적용하지 않음
+   */
+  @Query("select t.id as id, t.trainerName as trainerName, t.trainerPicture as trainerPicture,"
+      + " t.ptPrice as ptPrice, t.isMembership as membership from Trainer t"
+      + " where t.trainerStatus = :status"
+      + " and (:cursor is null or t.id > :cursor)"
+      + " and (:membership is null or t.isMembership = :membership)"
+      + " and (:minPrice is null or t.ptPrice >= :minPrice)"
+      + " and (:maxPrice is null or t.ptPrice <= :maxPrice)"
+      + " order by t.id asc")
+  List<TrainerSummary> findDirectoryPage(@Param("status") String status,
+      @Param("cursor") Long cursor, @Param("membership") Boolean membership,
+      @Param("minPrice") Double minPrice, @Param("maxPrice") Double maxPrice,
+      Pageable pageable);
+}
@@ -0,0 +1,67 @@
+package com.sparta.fitpleprojectbackend.trainer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.sparta.fitpleprojectbackend.common.CommonResponse;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSearchCondition;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSliceResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 트레이너 목록의 직렬화된 응답 스냅샷 캐시
+ * 트레이너 정보는 이 서비스 밖에서 변경되므로 변경 이벤트 없이 시간 기준으로만 갱신하며,
+ * refresh-seconds가 지난 스냅샷은 조회 시 기존 스냅샷을 응답하면서 백그라운드에서 다시 만듦
+ */
+@Component
+public class TrainerDirectoryCache {
+
+  private final TrainerService trainerService;
+  private final ObjectMapper objectMapper;
+  private final LoadingCache<TrainerSearchCondition, TrainerDirectorySnapshot> snapshots;
+
+  public TrainerDirectoryCache(TrainerService trainerService, ObjectMapper objectMapper,
+      @Value("${trainer.directory-cache.maximum-size:1000}") long maximumSize,
+      @Value("${trainer.directory-cache.refresh-seconds:30}") long refreshSeconds) {
+    this.trainerService = trainerService;
+    this.objectMapper = objectMapper;
+    this.snapshots = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+        .recordStats()
+        .build(this::load);
+  }
+
+  /**
+   * 조회 조건에 해당하는 트레이너 목록 스냅샷 조회
+   *
+   * @param condition 트레이너 목록 조회 조건
+   * @return 직렬화된 응답과 ETag
+   */
+  public TrainerDirectorySnapshot get(TrainerSearchCondition condition) {
+    return snapshots.get(condition);
+  }
+
+  /**
+   * 캐시 적중률
+   *
+   * @return 0 ~ 1 사이의 적중률
+   */
+  public double getHitRate() {
+    return snapshots.stats().hitRate();
+  }
+
+  private TrainerDirectorySnapshot load(TrainerSearchCondition condition) {
+    TrainerSliceResponse trainers = trainerService.getTrainers(condition);
+    try {
+      return new TrainerDirectorySnapshot(objectMapper.writeValueAsBytes(new CommonResponse<>(
+          HttpStatus.OK.value(), "트레이너 목록 조회 완료", trainers)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("트레이너 목록을 직렬화할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.sparta.fitpleprojectbackend.trainer.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 직렬화가 끝난 트레이너 목록 응답과 그 내용으로 만든 강한 ETag
+ */
+@Getter
+public class TrainerDirectorySnapshot {
+
+  private final byte[] body;
+
+  private final String etag;
+
+  public TrainerDirectorySnapshot(byte[] body) {
+    this.body = body;
+    this.etag = "\"" + digest(body) + "\"";
+  }
+
+  private static String digest(byte[] body) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
@@ -1,12 +1,19 @@
 package com.sparta.fitpleprojectbackend.trainer.service;
 
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
 import com.sparta.fitpleprojectbackend.trainer.dto.TrainerGetResponse;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSearchCondition;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSliceResponse;
+import com.sparta.fitpleprojectbackend.trainer.dto.TrainerSummary;
 import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,13 +23,27 @@ public class TrainerService {
   private final PasswordEncoder passwordEncoder;
 
   /**
-   * 트레이너 전체 조회
+   * 트레이너 목록 조회 (ID 순, 키셋 페이지네이션)
    *
-   * @return 트레이너 리스트
+   * @param condition 커서, 페이지 크기, PT 가격 범위, 회원권 유무, 트레이너 상태
+   * @return 트레이너 목록과 다음 페이지 커서
    */
-  public List<TrainerGetResponse> getAllTrainers() {
-    return trainerRepository.findAll().stream()
-        .map(TrainerGetResponse::new)
-        .toList();
+  @Transactional(readOnly = true)
+  public TrainerSliceResponse getTrainers(TrainerSearchCondition condition) {
+    if (condition.getMinPrice() != null && condition.getMaxPrice() != null
+        && condition.getMinPrice() > condition.getMaxPrice()) {
+      throw new CustomException(ErrorType.INVALID_INPUT);
+    }
+
+    int size = condition.getSize();
+    List<TrainerSummary> trainers = trainerRepository.findDirectoryPage(
+        condition.getStatus(), condition.getCursor(), condition.getMembership(),
+        condition.getMinPrice(), condition.getMaxPrice(), PageRequest.of(0, size + 1));
+
+    boolean hasNext = trainers.size() > size;
+    List<TrainerSummary> page = hasNext ? trainers.subList(0, size) : trainers;
+    Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+    return new TrainerSliceResponse(page.stream().map(TrainerGetResponse::new).toList(),
+        nextCursor);
   }
 }
@@ -2,26 +2,31 @@ package com.sparta.fitpleprojectbackend.user.controller;
 
 import com.sparta.fitpleprojectbackend.common.CommonResponse;
 import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
 import com.sparta.fitpleprojectbackend.jwtutil.JwtUtil;
+import com.sparta.fitpleprojectbackend.jwtutil.ParsedToken;
+import com.sparta.fitpleprojectbackend.security.AccessTokenDenylist;
+import com.sparta.fitpleprojectbackend.security.AccountIndex;
+import com.sparta.fitpleprojectbackend.security.AccountIndexService;
+import com.sparta.fitpleprojectbackend.security.LoginAttemptLimiter;
+import com.sparta.fitpleprojectbackend.security.RefreshTokenService;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
 import com.sparta.fitpleprojectbackend.user.dto.LoginRequest;
-import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
-import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
-import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import com.sparta.fitpleprojectbackend.user.dto.RefreshTokenRequest;
 import com.sparta.fitpleprojectbackend.user.service.UserService;
 import com.sparta.fitpleprojectbackend.owner.service.OwnerService;
-import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
-import com.sparta.fitpleprojectbackend.owner.entity.Owner;
-import com.sparta.fitpleprojectbackend.user.entity.User;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,11 +41,13 @@ public class AuthController {
 
   private JwtUtil jwtUtil;
 
-  private UserRepository userRepository;
+  private AccountIndexService accountIndexService;
 
-  private OwnerRepository ownerRepository;
+  private AccessTokenDenylist accessTokenDenylist;
 
-  private TrainerRepository trainerRepository;
+  private RefreshTokenService refreshTokenService;
+
+  private LoginAttemptLimiter loginAttemptLimiter;
 
   private UserService userService;
 
@@ -48,16 +55,18 @@ public class AuthController {
 
   public AuthController(AuthenticationManager authenticationManager,
       JwtUtil jwtUtil,
-      UserRepository userRepository,
-      OwnerRepository ownerRepository,
-      TrainerRepository trainerRepository,
+      AccountIndexService accountIndexService,
+      AccessTokenDenylist accessTokenDenylist,
+      RefreshTokenService refreshTokenService,
+      LoginAttemptLimiter loginAttemptLimiter,
       UserService userService,
       OwnerService ownerService) {
     this.authenticationManager = authenticationManager;
     this.jwtUtil = jwtUtil;
-    this.userRepository = userRepository;
-    this.ownerRepository = ownerRepository;
-    this.trainerRepository = trainerRepository;
+    this.accountIndexService = accountIndexService;
+    this.accessTokenDenylist = accessTokenDenylist;
+    this.refreshTokenService = refreshTokenService;
+    this.loginAttemptLimiter = loginAttemptLimiter;
     this.userService = userService;
     this.ownerService = ownerService;
   }
@@ -79,6 +88,18 @@ public class AuthController {
       return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    String clientIp = request.getRemoteAddr();
+    long retryAfterMillis = loginAttemptLimiter.checkBlocked(loginRequest.getAccountId(),
+        clientIp);
+    if (retryAfterMillis > 0) {
+      CommonResponse<Map<String, String>> response = new CommonResponse<>(
+          HttpStatus.TOO_MANY_REQUESTS.value(), "로그인 시도가 너무 많습니다.", null);
+      return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+          .header(HttpHeaders.RETRY_AFTER,
+              String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis) + 1))
+          .body(response);
+    }
+
     try {
       Authentication authentication = authenticationManager.authenticate(
           new UsernamePasswordAuthenticationToken(loginRequest.getAccountId(),
@@ -86,35 +107,21 @@ public class AuthController {
       );
 
       UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+      loginAttemptLimiter.recordSuccess(loginRequest.getAccountId());
 
-      if (userDetails.getRole() == Role.USER) {
-        Optional<User> userOptional = userRepository.findByAccountIdAndStatus(
-            userDetails.getUsername(), "ACTIVE");
-        if (!userOptional.isPresent()) {
-          CommonResponse<Map<String, String>> response = new CommonResponse<>(
-              HttpStatus.UNAUTHORIZED.value(), "회원탈퇴된 사용자입니다.", null);
-          return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
-      } else if (userDetails.getRole() == Role.OWNER) {
-        Optional<Owner> ownerOptional = ownerRepository.findByAccountIdAndOwnerStatus(
-            userDetails.getUsername(), "ACTIVE");
-        if (!ownerOptional.isPresent()) {
-          CommonResponse<Map<String, String>> response = new CommonResponse<>(
-              HttpStatus.UNAUTHORIZED.value(), "회원탈퇴된 점주입니다.", null);
-          return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
-      } else if (userDetails.getRole() == Role.TRAINER) {
-        Optional<Trainer> trainerOptional = trainerRepository.findByAccountIdAndTrainerStatus(
-            userDetails.getUsername(), "ACTIVE");
-        if (!trainerOptional.isPresent()) {
-          CommonResponse<Map<String, String>> response = new CommonResponse<>(
-              HttpStatus.UNAUTHORIZED.value(), "회원탈퇴된 트레이너입니다.", null);
-          return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
+      Optional<AccountIndex> accountIndexOptional = accountIndexService.findActive(
+          userDetails.getUsername());
+      if (accountIndexOptional.isEmpty()) {
+        CommonResponse<Map<String, String>> response = new CommonResponse<>(
+            HttpStatus.UNAUTHORIZED.value(), deletedAccountMessage(userDetails.getRole()), null);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
       }
 
-      String accessToken = jwtUtil.generateAccessToken(userDetails.getUsername());
-      String refreshToken = jwtUtil.generateRefreshToken(userDetails.getUsername());
+      AccountIndex accountIndex = accountIndexOptional.get();
+      String accessToken = jwtUtil.generateAccessToken(userDetails.getUsername(),
+          accountIndex.getRole(), accountIndex.getEntityId(), accountIndex.getTokenVersion());
+      String refreshToken = refreshTokenService.createRefreshToken(userDetails.getUsername(),
+          accountIndex.getTokenVersion());
 
       Map<String, String> tokenResponse = new HashMap<>();
       tokenResponse.put("accessToken", accessToken);
@@ -124,6 +131,14 @@ public class AuthController {
           HttpStatus.OK.value(), "로그인 성공", tokenResponse);
       return ResponseEntity.ok(response);
 
+    } catch (CustomException e) {
+      //해싱 대기열이 가득 찬 경우 등은 인증 실패가 아니므로 그대로 응답
+      throw e;
+    } catch (AuthenticationException e) {
+      loginAttemptLimiter.recordFailure(loginRequest.getAccountId(), clientIp);
+      CommonResponse<Map<String, String>> response = new CommonResponse<>(
+          HttpStatus.UNAUTHORIZED.value(), "로그인 실패", null);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     } catch (Exception e) {
       CommonResponse<Map<String, String>> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "로그인 실패", null);
@@ -132,13 +147,15 @@ public class AuthController {
   }
 
   /**
-   * 로그아웃 처리
+   * 로그아웃 처리, 액세스 토큰과 함께 이 기기의 리프레시 토큰 계열도 폐기
    *
-   * @param request HTTP 요청
+   * @param request             HTTP 요청
+   * @param refreshTokenRequest 이 기기의 리프레시 토큰
    * @return ResponseEntity<ResponseMessage < String>> 로그아웃 성공 메시지
    */
   @PostMapping("/logout")
-  public ResponseEntity<CommonResponse<String>> logout(HttpServletRequest request) {
+  public ResponseEntity<CommonResponse<String>> logout(HttpServletRequest request,
+      @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
     String authHeader = request.getHeader("Authorization");
     if (authHeader == null || !authHeader.startsWith("Bearer ")) {
       CommonResponse<String> response = new CommonResponse<>(
@@ -146,36 +163,110 @@ public class AuthController {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    String token = authHeader.substring(7);
-    if (!jwtUtil.validateToken(token)) {
+    ParsedToken parsedToken = jwtUtil.parseToken(authHeader.substring(7));
+    if (!parsedToken.isValid() || parsedToken.isRefreshToken()) {
       CommonResponse<String> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다.", null);
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    String username = jwtUtil.getUsername(token);
+    String username = parsedToken.getSubject();
     if (username == null) {
       CommonResponse<String> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "로그인되지 않은 상태입니다.", null);
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    Optional<User> userOptional = userRepository.findByAccountIdAndStatus(username, "ACTIVE");
-    Optional<Owner> ownerOptional = ownerRepository.findByAccountIdAndOwnerStatus(username,
-        "ACTIVE");
-    Optional<Trainer> trainerOptional = trainerRepository.findByAccountIdAndTrainerStatus(username,
-        "ACTIVE");
-
-    if (!userOptional.isPresent() && !ownerOptional.isPresent() && !trainerOptional.isPresent()) {
+    if (accessTokenDenylist.isRevoked(parsedToken)
+        || accountIndexService.findActive(username).isEmpty()) {
       CommonResponse<String> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "이미 로그아웃된 상태입니다.", null);
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    //인증된 상태에서 로그아웃 처리
+    //인증된 상태에서 로그아웃 처리, 토큰은 남은 유효기간 동안 폐기
+    accessTokenDenylist.revoke(parsedToken);
+    if (refreshTokenRequest != null && refreshTokenRequest.getRefreshToken() != null) {
+      refreshTokenService.revoke(username, refreshTokenRequest.getRefreshToken());
+    }
     SecurityContextHolder.clearContext();
     CommonResponse<String> response = new CommonResponse<>(
         HttpStatus.OK.value(), "로그아웃 성공", "로그아웃이 완료되었습니다.");
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * 모든 기기에서 로그아웃 처리, 계정의 리프레시 토큰과 발급된 액세스 토큰을 모두 폐기
+   *
+   * @param request HTTP 요청
+   * @return ResponseEntity<ResponseMessage < String>> 로그아웃 성공 메시지
+   */
+  @PostMapping("/logout/all")
+  public ResponseEntity<CommonResponse<String>> logoutAll(HttpServletRequest request) {
+    String authHeader = request.getHeader("Authorization");
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      CommonResponse<String> response = new CommonResponse<>(
+          HttpStatus.UNAUTHORIZED.value(), "로그인 먼저 해주세요.", null);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
+    ParsedToken parsedToken = jwtUtil.parseToken(authHeader.substring(7));
+    if (!parsedToken.isValid() || parsedToken.isRefreshToken() || parsedToken.getSubject() == null
+        || accessTokenDenylist.isRevoked(parsedToken)) {
+      CommonResponse<String> response = new CommonResponse<>(
+          HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다.", null);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
+    String username = parsedToken.getSubject();
+    refreshTokenService.revokeAll(username);
+    accountIndexService.bumpTokenVersion(username);
+    accessTokenDenylist.revoke(parsedToken);
+    SecurityContextHolder.clearContext();
+    CommonResponse<String> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "로그아웃 성공", "모든 기기에서 로그아웃되었습니다.");
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 리프레시 토큰으로 액세스 토큰 재발급, 사용한 리프레시 토큰은 새 토큰으로 교체
+   *
+   * @param refreshTokenRequest 리프레시 토큰
+   * @return 새 액세스 토큰과 리프레시 토큰
+   */
+  @PostMapping("/token/refresh")
+  public ResponseEntity<CommonResponse<Map<String, String>>> refresh(
+      @RequestBody RefreshTokenRequest refreshTokenRequest) {
+    ParsedToken parsedToken = jwtUtil.parseToken(refreshTokenRequest.getRefreshToken());
+    String refreshToken = refreshTokenService.rotate(parsedToken);
+
+    Optional<AccountIndex> accountIndexOptional = accountIndexService.findActive(
+        parsedToken.getSubject());
+    if (accountIndexOptional.isEmpty()) {
+      refreshTokenService.revoke(refreshToken);
+      CommonResponse<Map<String, String>> response = new CommonResponse<>(
+          HttpStatus.UNAUTHORIZED.value(), "회원탈퇴된 계정입니다.", null);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
+    AccountIndex accountIndex = accountIndexOptional.get();
+    String accessToken = jwtUtil.generateAccessToken(parsedToken.getSubject(),
+        accountIndex.getRole(), accountIndex.getEntityId(), accountIndex.getTokenVersion());
+
+    Map<String, String> tokenResponse = new HashMap<>();
+    tokenResponse.put("accessToken", accessToken);
+    tokenResponse.put("refreshToken", refreshToken);
+
+    CommonResponse<Map<String, String>> response = new CommonResponse<>(
+        HttpStatus.OK.value(), "토큰 재발급 성공", tokenResponse);
+    return ResponseEntity.ok(response);
+  }
+
+  private String deletedAccountMessage(Role role) {
+    return switch (role) {
+      case USER -> "회원탈퇴된 사용자입니다.";
+      case OWNER -> "회원탈퇴된 점주입니다.";
+      case TRAINER -> "회원탈퇴된 트레이너입니다.";
+    };
+  }
 }
\ No newline at end of file
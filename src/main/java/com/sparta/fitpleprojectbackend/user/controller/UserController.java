@@ -2,6 +2,7 @@ package com.sparta.fitpleprojectbackend.user.controller;
 
 import com.sparta.fitpleprojectbackend.common.CommonResponse;
 import com.sparta.fitpleprojectbackend.jwtutil.JwtUtil;
+import com.sparta.fitpleprojectbackend.jwtutil.ParsedToken;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
 import com.sparta.fitpleprojectbackend.user.dto.UpdatePasswordRequest;
 import com.sparta.fitpleprojectbackend.user.dto.UpdateUserProfileRequest;
@@ -64,14 +65,14 @@ public class UserController {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    String token = authHeader.substring(7);
-    if (!jwtUtil.validateToken(token)) {
+    ParsedToken parsedToken = jwtUtil.parseToken(authHeader.substring(7));
+    if (!parsedToken.isValid()) {
       CommonResponse<String> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다.", "유효하지 않은 토큰입니다.");
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
-    String username = jwtUtil.getUsername(token);
+    String username = parsedToken.getSubject();
     if (username == null) {
       CommonResponse<String> response = new CommonResponse<>(
           HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다.", "유효하지 않은 토큰입니다.");
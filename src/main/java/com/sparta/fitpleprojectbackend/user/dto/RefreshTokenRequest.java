@@ -0,0 +1,9 @@
+package com.sparta.fitpleprojectbackend.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class RefreshTokenRequest {
+
+  private String refreshToken;
+}
@@ -10,6 +10,11 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_user_email_status", columnList = "email, status"),
+    @Index(name = "idx_user_phone_number_status", columnList = "phone_number, status"),
+    @Index(name = "idx_user_scheduled_deletion_date", columnList = "scheduled_deletion_date")
+})
 public class User extends TimeStamped {
 
   @Id
@@ -2,7 +2,10 @@ package com.sparta.fitpleprojectbackend.user.repository;
 
 import com.sparta.fitpleprojectbackend.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -24,5 +27,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByPhoneNumberAndStatus(String phoneNumber, String status);
 
+  /**
+   * 회원가입 시 충돌하는 계정을 한 번에 조회
+   * 상태와 관계없이 같은 계정 ID를 쓰는 계정과, 같은 이메일 또는 전화번호를 쓰는 활성 계정을 반환
+   */
+  @Query("select u from User u where u.accountId = :accountId"
+      + " or ((u.email = :email or u.phoneNumber = :phoneNumber) and u.status = 'ACTIVE')")
+  List<User> findSignupConflicts(@Param("accountId") String accountId,
+      @Param("email") String email, @Param("phoneNumber") String phoneNumber);
+
   void deleteAllByScheduledDeletionDateBefore(LocalDateTime now);
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.sparta.fitpleprojectbackend.user.service;
 import com.sparta.fitpleprojectbackend.enums.ErrorType;
 import com.sparta.fitpleprojectbackend.enums.Role;
 import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.security.AccountIndexService;
+import com.sparta.fitpleprojectbackend.security.UserDetailsCache;
 import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
 import com.sparta.fitpleprojectbackend.user.dto.UpdatePasswordRequest;
 import com.sparta.fitpleprojectbackend.user.dto.UpdateUserProfileRequest;
@@ -12,10 +14,12 @@ import com.sparta.fitpleprojectbackend.user.entity.User;
 import com.sparta.fitpleprojectbackend.user.exception.UserException;
 import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -23,11 +27,16 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserDetailsCache userDetailsCache;
+  private final AccountIndexService accountIndexService;
 
 
-  public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+  public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+      UserDetailsCache userDetailsCache, AccountIndexService accountIndexService) {
     this.userRepository = userRepository;
     this.passwordEncoder = passwordEncoder;
+    this.userDetailsCache = userDetailsCache;
+    this.accountIndexService = accountIndexService;
   }
 
 
@@ -38,28 +47,30 @@ public class UserService {
    * @return 등록된 사용자 객체
    * @throws CustomException 중복된 사용자 정보가 있을 경우 발생
    */
+  @Transactional
   public User signup(UserSignupRequest request) {
-    Optional<User> existingUserByUsername = userRepository.findByAccountIdAndStatus(
-        request.getAccountId(), "ACTIVE");
-    Optional<User> existingUserByEmail = userRepository.findByEmailAndStatus(request.getEmail(),
-        "ACTIVE");
-    Optional<User> existingUserByPhoneNumber = userRepository.findByPhoneNumberAndStatus(
-        request.getPhoneNumber(), "ACTIVE");
+    List<User> conflicts = userRepository.findSignupConflicts(request.getAccountId(),
+        request.getEmail(), request.getPhoneNumber());
 
-    if (existingUserByUsername.isPresent()) {
+    Optional<User> sameAccountId = conflicts.stream()
+        .filter(user -> user.getAccountId().equals(request.getAccountId()))
+        .findFirst();
+    if (sameAccountId.isPresent() && !"DELETED".equals(sameAccountId.get().getStatus())) {
       throw new CustomException(ErrorType.DUPLICATE_USERNAME);
     }
-    if (existingUserByEmail.isPresent()) {
+    if (conflicts.stream().anyMatch(user -> "ACTIVE".equals(user.getStatus())
+        && request.getEmail().equals(user.getEmail()))) {
       throw new CustomException(ErrorType.DUPLICATE_EMAIL);
     }
-    if (existingUserByPhoneNumber.isPresent()) {
+    if (conflicts.stream().anyMatch(user -> "ACTIVE".equals(user.getStatus())
+        && request.getPhoneNumber().equals(user.getPhoneNumber()))) {
       throw new CustomException(ErrorType.DUPLICATE_USER);
     }
+    accountIndexService.checkAvailable(request.getAccountId(), Role.USER);
 
-    Optional<User> deletedUserByUsername = userRepository.findByAccountIdAndStatus(
-        request.getAccountId(), "DELETED");
-    if (deletedUserByUsername.isPresent()) {
-      User user = deletedUserByUsername.get();
+    //탈퇴한 계정 ID로 다시 가입하면 기존 계정을 복구
+    if (sameAccountId.isPresent()) {
+      User user = sameAccountId.get();
       User updatedUser = new User(
           user.getUserName(),
           user.getBalance(),
@@ -80,7 +91,8 @@ public class UserService {
           user.getDeletedAt(),
           LocalDateTime.now()
       );
-      return userRepository.save(updatedUser);
+      userDetailsCache.evict(request.getAccountId());
+      return syncAccountIndex(userRepository.save(updatedUser));
     }
 
     User newUser = new User(
@@ -104,7 +116,7 @@ public class UserService {
         null
     );
 
-    return userRepository.save(newUser);
+    return syncAccountIndex(saveNewAccount(newUser));
   }
 
   /**
@@ -138,7 +150,8 @@ public class UserService {
         LocalDateTime.now().plusDays(30)
     );
 
-    userRepository.save(updatedUser);
+    syncAccountIndex(userRepository.save(updatedUser));
+    userDetailsCache.evict(username);
   }
 
   /**
@@ -159,6 +172,7 @@ public class UserService {
     }
 
     user.updateUserProfile(userRequest);
+    userDetailsCache.evict(user.getAccountId());
   }
 
   /**
@@ -179,6 +193,8 @@ public class UserService {
     }
 
     user.updatePassword(passwordEncoder.encode(userRequest.getNewPassword()));
+    userDetailsCache.evict(user.getAccountId());
+    accountIndexService.bumpTokenVersion(user.getAccountId());
   }
 
   /**
@@ -192,4 +208,18 @@ public class UserService {
     User user = userOptional.orElseThrow(() -> new UserException(ErrorType.NOT_FOUND_USER));
     return new ReadUserResponse(user);
   }
+
+  private User saveNewAccount(User user) {
+    try {
+      return userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      //동시에 같은 계정 ID로 가입한 경우 유니크 제약 조건으로 차단
+      throw new CustomException(ErrorType.DUPLICATE_USERNAME);
+    }
+  }
+
+  private User syncAccountIndex(User user) {
+    accountIndexService.sync(user.getAccountId(), user.getRole(), user.getId(), user.getStatus());
+    return user;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+-- 기존 ddl-auto: update 로 만들어진 스키마
+-- 이미 운영 중인 DB는 baseline-on-migrate 로 이 버전부터 관리하므로 새 DB에서만 실행됨
+
+CREATE TABLE `user`
+(
+    id                            BIGINT       NOT NULL AUTO_INCREMENT,
+    balance                       DOUBLE,
+    user_name                     VARCHAR(10)  NOT NULL,
+    resident_registration_number  VARCHAR(13),
+    foreigner_registration_number VARCHAR(13),
+    is_foreigner                  BIT          NOT NULL,
+    account_id                    VARCHAR(15)  NOT NULL,
+    password                      VARCHAR(255) NOT NULL,
+    nickname                      VARCHAR(10),
+    email                         VARCHAR(255) NOT NULL,
+    user_picture                  VARCHAR(255),
+    status                        VARCHAR(10)  NOT NULL,
+    zipcode                       VARCHAR(10),
+    main_address                  VARCHAR(255),
+    detailed_address              VARCHAR(255),
+    phone_number                  VARCHAR(15),
+    role                          ENUM ('USER', 'TRAINER', 'OWNER') NOT NULL,
+    deleted_at                    DATETIME(6),
+    scheduled_deletion_date       DATETIME(6),
+    created_at                    DATETIME(6)  NOT NULL,
+    updated_at                    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_account_id UNIQUE (account_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE owner
+(
+    id                            BIGINT       NOT NULL AUTO_INCREMENT,
+    owner_name                    VARCHAR(10)  NOT NULL,
+    resident_registration_number  VARCHAR(13),
+    foreigner_registration_number VARCHAR(13),
+    is_foreigner                  BIT          NOT NULL,
+    account_id                    VARCHAR(15)  NOT NULL,
+    password                      VARCHAR(255) NOT NULL,
+    nickname                      VARCHAR(10),
+    email                         VARCHAR(255) NOT NULL,
+    owner_picture                 VARCHAR(255),
+    owner_status                  VARCHAR(10)  NOT NULL,
+    business_registration_number  VARCHAR(10),
+    business_name                 VARCHAR(255) NOT NULL,
+    zipcode                       VARCHAR(10),
+    main_address                  VARCHAR(255),
+    detailed_address              VARCHAR(255),
+    owner_phone_number            VARCHAR(15),
+    role                          ENUM ('USER', 'TRAINER', 'OWNER') NOT NULL,
+    deleted_at                    DATETIME(6),
+    scheduled_deletion_date       DATETIME(6),
+    created_at                    DATETIME(6)  NOT NULL,
+    updated_at                    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_owner_account_id UNIQUE (account_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE trainer
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    pt_price             DOUBLE,
+    is_membership        BIT          NOT NULL,
+    trainer_name         VARCHAR(10),
+    trainer_info         VARCHAR(255),
+    account_id           VARCHAR(10)  NOT NULL,
+    password             VARCHAR(255) NOT NULL,
+    nickname             VARCHAR(10)  NOT NULL,
+    email                VARCHAR(255) NOT NULL,
+    trainer_picture      VARCHAR(255),
+    trainer_status       VARCHAR(10)  NOT NULL,
+    trainer_phone_number VARCHAR(15)  NOT NULL,
+    role                 ENUM ('USER', 'TRAINER', 'OWNER') NOT NULL,
+    deleted_at           DATETIME(6),
+    created_at           DATETIME(6)  NOT NULL,
+    updated_at           DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_trainer_account_id UNIQUE (account_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE store
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    store_name     VARCHAR(255) NOT NULL,
+    address        VARCHAR(255) NOT NULL,
+    street_address VARCHAR(255) NOT NULL,
+    postal_code    VARCHAR(255) NOT NULL,
+    store_info     VARCHAR(255) NOT NULL,
+    store_hour     VARCHAR(255) NOT NULL,
+    store_tel      VARCHAR(255) NOT NULL,
+    owner_id       BIGINT       NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_store_store_name UNIQUE (store_name),
+    CONSTRAINT fk_store_owner FOREIGN KEY (owner_id) REFERENCES owner (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pt_infomation
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    trainer_id     BIGINT      NOT NULL,
+    user_id        BIGINT      NOT NULL,
+    pt_times       ENUM ('TEN_TIMES', 'TWENTY_TIMES', 'THIRTY_TIMES', 'SIXTY_TIMES') NOT NULL,
+    pt_price       DOUBLE      NOT NULL,
+    is_membership  BIT         NOT NULL,
+    payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED'),
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pt_infomation_trainer FOREIGN KEY (trainer_id) REFERENCES trainer (id),
+    CONSTRAINT fk_pt_infomation_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pt_payment
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    trainer_id     BIGINT      NOT NULL,
+    user_id        BIGINT      NOT NULL,
+    pt_times       ENUM ('TEN_TIMES', 'TWENTY_TIMES', 'THIRTY_TIMES', 'SIXTY_TIMES') NOT NULL,
+    payment_type   ENUM ('UNDEFINED', 'CREDIT_CARD', 'DEBIT_CARD', 'CASH') NOT NULL,
+    amount         DOUBLE      NOT NULL,
+    payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED'),
+    payment_date   DATETIME(6),
+    expiry_date    DATETIME(6),
+    is_membership  BIT         NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pt_payment_trainer FOREIGN KEY (trainer_id) REFERENCES trainer (id),
+    CONSTRAINT fk_pt_payment_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_pt
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    trainer_id     BIGINT      NOT NULL,
+    user_id        BIGINT      NOT NULL,
+    pt_times       ENUM ('TEN_TIMES', 'TWENTY_TIMES', 'THIRTY_TIMES', 'SIXTY_TIMES') NOT NULL,
+    payment_type   ENUM ('UNDEFINED', 'CREDIT_CARD', 'DEBIT_CARD', 'CASH') NOT NULL,
+    amount         DOUBLE      NOT NULL,
+    payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED'),
+    payment_date   DATETIME(6),
+    expiry_date    DATETIME(6),
+    is_membership  BIT         NOT NULL,
+    is_active      BIT         NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_pt_trainer FOREIGN KEY (trainer_id) REFERENCES trainer (id),
+    CONSTRAINT fk_user_pt_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE review
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    content VARCHAR(255),
+    rating  INT    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_token
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    token       VARCHAR(255),
+    username    VARCHAR(255),
+    expiry_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,42 @@
+-- 통합 계정 인덱스, 매장 좌표와 페이지네이션 인덱스, 매장 소속 트레이너, 트레이너 목록 인덱스
+
+CREATE TABLE account_index
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    account_id    VARCHAR(15) NOT NULL,
+    role          ENUM ('USER', 'TRAINER', 'OWNER') NOT NULL,
+    entity_id     BIGINT      NOT NULL,
+    status        VARCHAR(10) NOT NULL,
+    token_version BIGINT      NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_account_index_account_id UNIQUE (account_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE store
+    ADD COLUMN latitude  DOUBLE,
+    ADD COLUMN longitude DOUBLE,
+    ADD INDEX idx_store_created_at_id (created_at, id),
+    ADD INDEX idx_store_owner_created_at_id (owner_id, created_at, id);
+
+CREATE TABLE store_trainer
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    store_id   BIGINT      NOT NULL,
+    trainer_id BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_store_trainer UNIQUE (store_id, trainer_id),
+    INDEX idx_store_trainer_trainer_id (trainer_id),
+    CONSTRAINT fk_store_trainer_store FOREIGN KEY (store_id) REFERENCES store (id),
+    CONSTRAINT fk_store_trainer_trainer FOREIGN KEY (trainer_id) REFERENCES trainer (id)
+) ENGINE = InnoDB;
+
+ALTER TABLE trainer
+    ADD INDEX idx_trainer_status_membership_id (trainer_status, is_membership, id),
+    ADD INDEX idx_trainer_status_price_id (trainer_status, pt_price, id);
+
+-- 리프레시 토큰은 Redis로 옮겨져 더 이상 사용하지 않음
+DROP TABLE IF EXISTS refresh_token;
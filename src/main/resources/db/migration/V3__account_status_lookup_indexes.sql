@@ -0,0 +1,16 @@
+-- 회원가입 중복 확인과 로그인에서 사용하는 (값, 상태) 조회용 복합 인덱스
+-- 아이디는 유니크 인덱스로 한 행만 찾으므로 별도 인덱스를 두지 않음
+
+ALTER TABLE `user`
+    ADD INDEX idx_user_email_status (email, status),
+    ADD INDEX idx_user_phone_number_status (phone_number, status),
+    ADD INDEX idx_user_scheduled_deletion_date (scheduled_deletion_date);
+
+ALTER TABLE owner
+    ADD INDEX idx_owner_email_status (email, owner_status),
+    ADD INDEX idx_owner_phone_number_status (owner_phone_number, owner_status),
+    ADD INDEX idx_owner_scheduled_deletion_date (scheduled_deletion_date);
+
+ALTER TABLE trainer
+    ADD INDEX idx_trainer_email_status (email, trainer_status),
+    ADD INDEX idx_trainer_phone_number_status (trainer_phone_number, trainer_status);
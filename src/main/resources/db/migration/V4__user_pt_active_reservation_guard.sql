@@ -0,0 +1,21 @@
+-- 같은 유저와 트레이너 사이의 활성 PT는 하나만 허용
+-- MySQL은 부분 유니크 인덱스를 지원하지 않으므로, 활성 행에만 값이 있는 생성 컬럼에 유니크 인덱스를 둠
+-- (비활성 행은 NULL이 되어 유니크 검사 대상에서 빠짐)
+
+-- 이미 중복된 활성 PT는 가장 최근 행만 남기고 비활성화
+UPDATE user_pt up
+    JOIN (SELECT trainer_id, user_id, MAX(id) AS keep_id
+          FROM user_pt
+          WHERE is_active = TRUE
+          GROUP BY trainer_id, user_id
+          HAVING COUNT(*) > 1) dup
+    ON up.trainer_id = dup.trainer_id AND up.user_id = dup.user_id
+SET up.is_active = FALSE
+WHERE up.is_active = TRUE
+  AND up.id <> dup.keep_id;
+
+ALTER TABLE user_pt
+    ADD COLUMN active_trainer_id BIGINT
+        GENERATED ALWAYS AS (IF(is_active, trainer_id, NULL)) STORED,
+    ADD CONSTRAINT uk_user_pt_active UNIQUE (user_id, active_trainer_id),
+    ADD INDEX idx_user_pt_trainer_user_active (trainer_id, user_id, is_active);
@@ -0,0 +1,48 @@
+-- 결제 승인 시 새 행을 만들던 방식에서 같은 행의 상태를 바꾸는 방식으로 변경
+-- 낙관적 잠금용 version 컬럼과 환불 상태를 추가하고, 승인 때마다 남은 중복 행을 정리
+
+ALTER TABLE pt_payment
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    MODIFY payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED',
+        'REFUNDED');
+
+ALTER TABLE pt_infomation
+    MODIFY payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED',
+        'REFUNDED');
+
+ALTER TABLE user_pt
+    MODIFY payment_status ENUM ('PENDING', 'COMPLETED', 'FAILED', 'CANCELED', 'APPROVED',
+        'REFUNDED');
+
+-- APPROVED 사본이 있는 PENDING 원본 행을 승인 상태로 올림
+UPDATE pt_payment pending
+    JOIN pt_payment approved
+    ON approved.trainer_id = pending.trainer_id
+        AND approved.user_id = pending.user_id
+        AND approved.pt_times = pending.pt_times
+        AND approved.payment_type = pending.payment_type
+        AND approved.amount = pending.amount
+        AND approved.payment_date <=> pending.payment_date
+        AND approved.expiry_date <=> pending.expiry_date
+        AND approved.is_membership = pending.is_membership
+        AND approved.payment_status = 'APPROVED'
+        AND approved.id > pending.id
+SET pending.payment_status = 'APPROVED',
+    pending.updated_at     = approved.created_at
+WHERE pending.payment_status = 'PENDING';
+
+-- 원본과 같은 내용의 APPROVED 사본은 가장 먼저 만들어진 행(승격된 원본)만 남기고 삭제
+DELETE approved
+FROM pt_payment approved
+         JOIN pt_payment original
+              ON original.trainer_id = approved.trainer_id
+                  AND original.user_id = approved.user_id
+                  AND original.pt_times = approved.pt_times
+                  AND original.payment_type = approved.payment_type
+                  AND original.amount = approved.amount
+                  AND original.payment_date <=> approved.payment_date
+                  AND original.expiry_date <=> approved.expiry_date
+                  AND original.is_membership = approved.is_membership
+                  AND original.payment_status = 'APPROVED'
+                  AND original.id < approved.id
+WHERE approved.payment_status = 'APPROVED';
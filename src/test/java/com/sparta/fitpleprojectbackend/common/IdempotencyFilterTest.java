@@ -0,0 +1,207 @@
+package com.sparta.fitpleprojectbackend.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.security.UserDetailsImpl;
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class IdempotencyFilterTest {
+
+  private static final String PATH = "/api/pt-payments/save-payment";
+  private static final String STORE_KEY = "idempotency:fitple01:payment-1";
+
+  private final InMemoryIdempotencyStore idempotencyStore = new InMemoryIdempotencyStore();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private IdempotencyFilter filter;
+
+  @AfterEach
+  void tearDown() {
+    if (filter != null) {
+      filter.shutdown();
+    }
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void concurrentDuplicateSubmissionsReachControllerOnce() throws Exception {
+    filter = newFilter(Duration.ofSeconds(30));
+    int requests = 8;
+    AtomicInteger invocations = new AtomicInteger();
+    CountDownLatch duplicatesRejected = new CountDownLatch(requests - 1);
+    FilterChain chain = (request, response) -> {
+      invocations.incrementAndGet();
+      //나머지 요청이 모두 처리 중 응답을 받을 때까지 결제 처리가 끝나지 않도록 대기
+      awaitQuietly(duplicatesRejected);
+      response.getOutputStream().write("paid".getBytes(StandardCharsets.UTF_8));
+    };
+
+    CyclicBarrier start = new CyclicBarrier(requests);
+    ExecutorService executor = Executors.newFixedThreadPool(requests);
+    List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < requests; i++) {
+      futures.add(executor.submit(() -> {
+        start.await(5, TimeUnit.SECONDS);
+        MockHttpServletResponse response = send(chain);
+        if (response.getStatus() == 409) {
+          duplicatesRejected.countDown();
+        }
+        return response;
+      }));
+    }
+    executor.shutdown();
+
+    List<Integer> statuses = new ArrayList<>();
+    for (Future<MockHttpServletResponse> future : futures) {
+      statuses.add(future.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    assertThat(invocations).hasValue(1);
+    assertThat(statuses).containsOnly(200, 409);
+    assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+
+    MockHttpServletResponse replayed = send(chain);
+    assertThat(invocations).hasValue(1);
+    assertThat(replayed.getStatus()).isEqualTo(200);
+    assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(replayed.getContentAsString()).isEqualTo("paid");
+  }
+
+  @Test
+  void slowRequestKeepsItsClaimAlive() throws Exception {
+    filter = newFilter(Duration.ofMillis(30));
+    FilterChain chain = (request, response) -> {
+      sleepQuietly(150);
+      response.getOutputStream().write("paid".getBytes(StandardCharsets.UTF_8));
+    };
+
+    assertThat(send(chain).getStatus()).isEqualTo(200);
+    assertThat(idempotencyStore.renewals).hasPositiveValue();
+  }
+
+  @Test
+  void requestThatLostItsClaimDoesNotOverwriteTheNewOwner() throws Exception {
+    filter = newFilter(Duration.ofSeconds(30));
+    AtomicInteger invocations = new AtomicInteger();
+    FilterChain chain = (request, response) -> {
+      if (invocations.incrementAndGet() == 1) {
+        //첫 요청의 선점이 만료된 사이 재시도가 키를 선점하고 먼저 끝남
+        idempotencyStore.expire(STORE_KEY);
+        try {
+          assertThat(send((retryRequest, retryResponse) -> retryResponse.getOutputStream()
+              .write("retry".getBytes(StandardCharsets.UTF_8))).getStatus()).isEqualTo(200);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      response.getOutputStream().write("first".getBytes(StandardCharsets.UTF_8));
+    };
+
+    send(chain);
+
+    IdempotencyRecord stored = objectMapper.readValue(idempotencyStore.get(STORE_KEY),
+        IdempotencyRecord.class);
+    assertThat(new String(Base64.getDecoder().decode(stored.getBody()),
+        StandardCharsets.UTF_8)).isEqualTo("retry");
+  }
+
+  private IdempotencyFilter newFilter(Duration lockTtl) {
+    return new IdempotencyFilter(idempotencyStore, objectMapper, List.of(PATH),
+        Duration.ofHours(24), lockTtl);
+  }
+
+  private MockHttpServletResponse send(FilterChain chain) throws Exception {
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+        new UserDetailsImpl("fitple01", Role.USER, 1L), null, List.of()));
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+    request.addHeader(IdempotencyFilter.HEADER, "payment-1");
+    request.setContent("{\"amount\":50000}".getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Redis 스크립트와 같은 조건으로 동작하는 메모리 저장소 (유지 시간은 expire로만 흉내 냄)
+   */
+  private static class InMemoryIdempotencyStore extends IdempotencyStore {
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final AtomicInteger renewals = new AtomicInteger();
+
+    InMemoryIdempotencyStore() {
+      super(null);
+    }
+
+    @Override
+    public boolean claim(String key, String claim, Duration ttl) {
+      return values.putIfAbsent(key, claim) == null;
+    }
+
+    @Override
+    public boolean renew(String key, String claim, Duration ttl) {
+      boolean renewed = claim.equals(values.get(key));
+      if (renewed) {
+        renewals.incrementAndGet();
+      }
+      return renewed;
+    }
+
+    @Override
+    public boolean complete(String key, String claim, String result, Duration ttl) {
+      return values.replace(key, claim, result);
+    }
+
+    @Override
+    public void release(String key, String claim) {
+      values.remove(key, claim);
+    }
+
+    @Override
+    public String get(String key) {
+      return values.get(key);
+    }
+
+    void expire(String key) {
+      values.remove(key);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.sparta.fitpleprojectbackend.ptsesson.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.ptsesson.entity.PtPayment;
+import com.sparta.fitpleprojectbackend.ptsesson.entity.UserPt;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentStatus;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentType;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PtTimes;
+import com.sparta.fitpleprojectbackend.ptsesson.service.PtPaymentService;
+import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import com.sparta.fitpleprojectbackend.user.entity.User;
+import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 상태 전이와 활성 PT 유니크 제약을 실제 MySQL 스키마(Flyway 마이그레이션)에서 확인
+ * 생성 컬럼과 JOIN UPDATE를 쓰는 마이그레이션이 있으므로 내장 DB로 바꾸지 않고 설정된 데이터소스를 사용하며,
+ * 동시 요청이 서로의 커밋을 보도록 테스트 트랜잭션 대신 요청마다 트랜잭션을 커밋하고 끝나면 데이터를 지움
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PtPaymentRepositoryTest {
+
+  private static final int NODES = 8;
+
+  @Autowired
+  private PtPaymentRepository ptPaymentRepository;
+
+  @Autowired
+  private UserPtRepository userPtRepository;
+
+  @Autowired
+  private PtInformationRepository ptInformationRepository;
+
+  @Autowired
+  private TrainerRepository trainerRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final List<Long> paymentIds = new ArrayList<>();
+  private final List<Long> userPtIds = new ArrayList<>();
+
+  private TransactionTemplate transactionTemplate;
+  private PtPaymentService ptPaymentService;
+  private Trainer trainer;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    ptPaymentService = new PtPaymentService(ptPaymentRepository, trainerRepository,
+        userRepository, userPtRepository, ptInformationRepository);
+
+    String suffix = Long.toString(System.nanoTime() % 100_000_000L, 36);
+    trainer = trainerRepository.save(new Trainer("트레이너", 50000.0, "", "t" + suffix,
+        "password", "trainer", "trainer@test.com", "", "ACTIVE", "01000000000", Role.TRAINER,
+        null));
+    user = userRepository.save(new User("유저", 0.0, null, null, false, "u" + suffix,
+        "password", "user", "user@test.com", null, null, null, null, null, null, Role.USER,
+        null, null));
+  }
+
+  @AfterEach
+  void tearDown() {
+    userPtRepository.deleteAllById(userPtIds);
+    ptPaymentRepository.deleteAllById(paymentIds);
+    trainerRepository.delete(trainer);
+    userRepository.delete(user);
+  }
+
+  @Test
+  void transitionFromWrongStateLeavesThePaymentUnchanged() {
+    PtPayment pending = savePayment(PaymentStatus.PENDING);
+
+    //PENDING에서 바로 완료할 수 없음
+    assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+        status -> ptPaymentService.completePayment(pending.getId())))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorType())
+        .isEqualTo(ErrorType.INVALID_PAYMENT_STATUS);
+
+    //조건부 UPDATE도 현재 상태가 다르면 행을 바꾸지 않음
+    Integer updated = transactionTemplate.execute(status -> ptPaymentRepository.transitionStatus(
+        pending.getId(), PaymentStatus.APPROVED, PaymentStatus.COMPLETED, null,
+        LocalDateTime.now()));
+    assertThat(updated).isZero();
+
+    PtPayment reloaded = ptPaymentRepository.findById(pending.getId()).orElseThrow();
+    assertThat(reloaded.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+    assertThat(reloaded.getVersion()).isEqualTo(pending.getVersion());
+  }
+
+  @Test
+  void transitionBumpsTheVersionAndIsVisibleInTheSameTransaction() {
+    PtPayment pending = savePayment(PaymentStatus.PENDING);
+
+    PtPayment approved = transactionTemplate.execute(status -> {
+      //영속성 컨텍스트에 이전 상태의 엔티티를 올려 둠
+      ptPaymentRepository.findById(pending.getId()).orElseThrow();
+      int updated = ptPaymentRepository.transitionStatus(pending.getId(),
+          PaymentStatus.PENDING, PaymentStatus.APPROVED, PaymentType.CREDIT_CARD,
+          LocalDateTime.now());
+      assertThat(updated).isEqualTo(1);
+      //clearAutomatically로 비워졌으므로 다시 조회하면 DB의 새 상태를 읽음
+      return ptPaymentRepository.findById(pending.getId()).orElseThrow();
+    });
+
+    assertThat(approved.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+    assertThat(approved.getPaymentType()).isEqualTo(PaymentType.CREDIT_CARD);
+    assertThat(approved.getVersion()).isEqualTo(pending.getVersion() + 1);
+  }
+
+  @Test
+  void concurrentCompletionsTransitionThePaymentOnce() throws Exception {
+    PtPayment approved = savePayment(PaymentStatus.APPROVED);
+
+    CyclicBarrier ready = new CyclicBarrier(NODES);
+    ExecutorService executor = Executors.newFixedThreadPool(NODES);
+    List<Future<PtPayment>> futures = new ArrayList<>();
+    for (int i = 0; i < NODES; i++) {
+      futures.add(executor.submit(() -> {
+        ready.await(5, TimeUnit.SECONDS);
+        return transactionTemplate.execute(
+            status -> ptPaymentService.completePayment(approved.getId()));
+      }));
+    }
+    executor.shutdown();
+
+    List<PtPayment> completed = new ArrayList<>();
+    List<ErrorType> errors = new ArrayList<>();
+    for (Future<PtPayment> future : futures) {
+      try {
+        completed.add(future.get(30, TimeUnit.SECONDS));
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(CustomException.class);
+        errors.add(((CustomException) e.getCause()).getErrorType());
+      }
+    }
+
+    assertThat(completed).hasSize(1);
+    assertThat(errors).hasSize(NODES - 1).containsOnly(ErrorType.INVALID_PAYMENT_STATUS);
+    PtPayment reloaded = ptPaymentRepository.findById(approved.getId()).orElseThrow();
+    assertThat(reloaded.getPaymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+    assertThat(reloaded.getVersion()).isEqualTo(approved.getVersion() + 1);
+  }
+
+  @Test
+  void onlyOneActiveUserPtPerTrainerAndUser() {
+    userPtIds.add(userPtRepository.saveAndFlush(userPt(true)).getId());
+
+    //uk_user_pt_active(user_id, active_trainer_id)
+    assertThatThrownBy(() -> userPtRepository.saveAndFlush(userPt(true)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+
+    //비활성 행은 active_trainer_id가 NULL이므로 제약 대상이 아님
+    userPtIds.add(userPtRepository.saveAndFlush(userPt(false)).getId());
+    userPtIds.add(userPtRepository.saveAndFlush(userPt(false)).getId());
+    assertThat(userPtRepository.existsByTrainerIdAndUserIdAndIsActive(trainer.getId(),
+        user.getId(), true)).isTrue();
+  }
+
+  private PtPayment savePayment(PaymentStatus paymentStatus) {
+    PtPayment ptPayment = ptPaymentRepository.save(new PtPayment(trainer, user,
+        PtTimes.TEN_TIMES, PaymentType.CREDIT_CARD, 500000, paymentStatus, LocalDateTime.now(),
+        LocalDateTime.now().plusDays(30), false));
+    paymentIds.add(ptPayment.getId());
+    return ptPayment;
+  }
+
+  private UserPt userPt(boolean isActive) {
+    return new UserPt(trainer, user, PtTimes.TEN_TIMES, PaymentType.CREDIT_CARD, 500000,
+        PaymentStatus.COMPLETED, LocalDateTime.now(), LocalDateTime.now().plusDays(30), false,
+        isActive);
+  }
+}
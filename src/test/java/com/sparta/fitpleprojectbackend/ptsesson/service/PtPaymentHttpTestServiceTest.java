@@ -0,0 +1,217 @@
+package com.sparta.fitpleprojectbackend.ptsesson.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.ptsesson.dto.PtPaymentRequest;
+import com.sparta.fitpleprojectbackend.ptsesson.entity.PtPayment;
+import com.sparta.fitpleprojectbackend.ptsesson.entity.UserPt;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentStatus;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PaymentType;
+import com.sparta.fitpleprojectbackend.ptsesson.enums.PtTimes;
+import com.sparta.fitpleprojectbackend.ptsesson.repository.PtInformationRepository;
+import com.sparta.fitpleprojectbackend.ptsesson.repository.PtPaymentRepository;
+import com.sparta.fitpleprojectbackend.ptsesson.repository.UserPtRepository;
+import com.sparta.fitpleprojectbackend.trainer.entity.Trainer;
+import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import com.sparta.fitpleprojectbackend.user.entity.User;
+import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PtPaymentHttpTestServiceTest {
+
+  private static final int NODES = 8;
+  private static final Long TRAINER_ID = 1L;
+  private static final Long USER_ID = 2L;
+
+  private final AtomicReference<UserPt> activeUserPt = new AtomicReference<>();
+  private final Map<Long, PtPayment> payments = new ConcurrentHashMap<>();
+  private final AtomicLong paymentIds = new AtomicLong();
+
+  private UserPtRepository userPtRepository;
+  private PtPaymentHttpTestService ptPaymentHttpTestService;
+
+  @BeforeEach
+  void setUp() {
+    TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    when(trainerRepository.findById(TRAINER_ID)).thenReturn(Optional.of(mock(Trainer.class)));
+    UserRepository userRepository = mock(UserRepository.class);
+    when(userRepository.findById(USER_ID)).thenReturn(Optional.of(mock(User.class)));
+
+    //UserPt 저장은 uk_user_pt_active처럼 활성 PT 하나만 허용
+    userPtRepository = mock(UserPtRepository.class);
+    when(userPtRepository.saveAndFlush(any(UserPt.class))).thenAnswer(invocation -> {
+      UserPt userPt = invocation.getArgument(0);
+      if (!activeUserPt.compareAndSet(null, userPt)) {
+        throw new DataIntegrityViolationException("Duplicate entry for key 'uk_user_pt_active'");
+      }
+      return userPt;
+    });
+
+    //결제 저장과 상태 전이는 메모리에서 같은 조건으로 처리
+    PtPaymentRepository ptPaymentRepository = mock(PtPaymentRepository.class);
+    when(ptPaymentRepository.save(any(PtPayment.class))).thenAnswer(invocation -> {
+      PtPayment ptPayment = invocation.getArgument(0);
+      ReflectionTestUtils.setField(ptPayment, "id", paymentIds.incrementAndGet());
+      payments.put(ptPayment.getId(), ptPayment);
+      return ptPayment;
+    });
+    when(ptPaymentRepository.findById(anyLong()))
+        .thenAnswer(invocation -> Optional.ofNullable(payments.get(invocation.getArgument(0))));
+    when(ptPaymentRepository.findLatestMatchingPayment(eq(TRAINER_ID), eq(USER_ID),
+        any(PtTimes.class), anyDouble(), anyBoolean(), any(PaymentStatus.class)))
+        .thenAnswer(invocation -> payments.values().stream()
+            .filter(ptPayment -> ptPayment.getPtTimes() == invocation.getArgument(2)
+                && ptPayment.getAmount() == (double) invocation.getArgument(3)
+                && ptPayment.isMembership() == (boolean) invocation.getArgument(4)
+                && ptPayment.getPaymentStatus() == invocation.getArgument(5))
+            .max(Comparator.comparing(PtPayment::getId)));
+    when(ptPaymentRepository.transitionStatus(anyLong(), any(), any(), any(), any()))
+        .thenAnswer(invocation -> transition(invocation.getArgument(0),
+            invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+
+    PtPaymentService ptPaymentService = new PtPaymentService(ptPaymentRepository,
+        trainerRepository, userRepository, userPtRepository,
+        mock(PtInformationRepository.class));
+    ptPaymentHttpTestService = spy(new PtPaymentHttpTestService(ptPaymentRepository,
+        trainerRepository, userRepository, userPtRepository,
+        mock(PtInformationRepository.class), ptPaymentService));
+  }
+
+  @Test
+  void completionTransitionsTheSavedPendingPaymentInPlace() {
+    PtPaymentRequest request = request(PtTimes.TEN_TIMES, 50000);
+    PtPayment pending = ptPaymentHttpTestService.SavePayment(request, USER_ID,
+        request.getAmount());
+
+    PtPayment completed = ptPaymentHttpTestService.completePayment(request, USER_ID);
+
+    assertThat(completed.getId()).isEqualTo(pending.getId());
+    assertThat(completed.getPaymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+    assertThat(completed.getPaymentType()).isEqualTo(PaymentType.CREDIT_CARD);
+    assertThat(completed.getAmount()).isEqualTo(50000);
+    assertThat(payments).containsOnlyKeys(pending.getId());
+  }
+
+  @Test
+  void completionOnlyTransitionsThePaymentMatchingTheRequest() {
+    PtPaymentRequest leftover = request(PtTimes.TEN_TIMES, 50000);
+    PtPayment leftoverPending = ptPaymentHttpTestService.SavePayment(leftover, USER_ID,
+        leftover.getAmount());
+    PtPaymentRequest request = request(PtTimes.SIXTY_TIMES, 300000);
+    PtPayment pending = ptPaymentHttpTestService.SavePayment(request, USER_ID,
+        request.getAmount());
+
+    PtPayment completed = ptPaymentHttpTestService.completePayment(request, USER_ID);
+
+    assertThat(completed.getId()).isEqualTo(pending.getId());
+    assertThat(leftoverPending.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+  }
+
+  @Test
+  void completionWithoutAMatchingPendingPaymentFailsBeforeCharging() {
+    ptPaymentHttpTestService.SavePayment(request(PtTimes.TEN_TIMES, 50000), USER_ID, 50000);
+
+    assertThatThrownBy(() -> ptPaymentHttpTestService.completePayment(
+        request(PtTimes.SIXTY_TIMES, 300000), USER_ID))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorType())
+        .isEqualTo(ErrorType.PAYMENT_NOT_FOUND);
+    verify(ptPaymentHttpTestService, never()).approvePayment(anyLong(), anyDouble());
+    assertThat(activeUserPt.get()).isNull();
+    assertThat(payments.values()).extracting(PtPayment::getPaymentStatus)
+        .containsOnly(PaymentStatus.PENDING);
+  }
+
+  @Test
+  void concurrentPurchasesOnDifferentNodesChargeOnlyTheReservationWinner() throws Exception {
+    //노드마다 잠금이 따로 있으므로 모든 요청이 중복 확인을 통과한 뒤 저장하도록 맞춤
+    CyclicBarrier allChecked = new CyclicBarrier(NODES);
+    when(userPtRepository.existsByTrainerIdAndUserIdAndIsActive(anyLong(), anyLong(),
+        anyBoolean())).thenAnswer(invocation -> {
+          allChecked.await(5, TimeUnit.SECONDS);
+          return false;
+        });
+    PtPaymentRequest request = request(PtTimes.TEN_TIMES, 600);
+    ptPaymentHttpTestService.SavePayment(request, USER_ID, request.getAmount());
+
+    ExecutorService executor = Executors.newFixedThreadPool(NODES);
+    List<Future<PtPayment>> futures = new ArrayList<>();
+    for (int i = 0; i < NODES; i++) {
+      futures.add(executor.submit(
+          () -> ptPaymentHttpTestService.completePayment(request, USER_ID)));
+    }
+    executor.shutdown();
+
+    List<PtPayment> completed = new ArrayList<>();
+    List<ErrorType> errors = new ArrayList<>();
+    for (Future<PtPayment> future : futures) {
+      try {
+        completed.add(future.get(5, TimeUnit.SECONDS));
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(CustomException.class);
+        errors.add(((CustomException) e.getCause()).getErrorType());
+      }
+    }
+
+    assertThat(completed).hasSize(1);
+    assertThat(errors).hasSize(NODES - 1).containsOnly(ErrorType.RESERVATION_CONFLICT);
+    //선점에 실패한 요청은 결제 승인과 상태 전이 전에 끝나야 함
+    verify(ptPaymentHttpTestService, times(1)).approvePayment(anyLong(), anyDouble());
+    assertThat(payments.values())
+        .filteredOn(ptPayment -> ptPayment.getPaymentStatus() != PaymentStatus.PENDING)
+        .containsExactlyElementsOf(completed);
+    assertThat(activeUserPt.get().getPaymentType()).isEqualTo(PaymentType.CREDIT_CARD);
+  }
+
+  private PtPaymentRequest request(PtTimes ptTimes, double amount) {
+    return new PtPaymentRequest(TRAINER_ID, USER_ID, ptTimes, PaymentType.CREDIT_CARD, amount,
+        false);
+  }
+
+  /**
+   * transitionStatus와 같이 현재 상태가 일치할 때만 변경
+   */
+  private synchronized int transition(Long id, PaymentStatus current, PaymentStatus next,
+      PaymentType paymentType) {
+    PtPayment ptPayment = payments.get(id);
+    if (ptPayment == null || ptPayment.getPaymentStatus() != current) {
+      return 0;
+    }
+    ReflectionTestUtils.setField(ptPayment, "paymentStatus", next);
+    if (paymentType != null) {
+      ReflectionTestUtils.setField(ptPayment, "paymentType", paymentType);
+    }
+    return 1;
+  }
+}
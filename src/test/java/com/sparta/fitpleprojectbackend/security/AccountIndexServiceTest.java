@@ -0,0 +1,79 @@
+package com.sparta.fitpleprojectbackend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.enums.Role;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.owner.repository.OwnerRepository;
+import com.sparta.fitpleprojectbackend.trainer.repository.TrainerRepository;
+import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class AccountIndexServiceTest {
+
+  private AccountIndexRepository accountIndexRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private AccountIndexService accountIndexService;
+
+  @BeforeEach
+  void setUp() {
+    accountIndexRepository = mock(AccountIndexRepository.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    accountIndexService = new AccountIndexService(accountIndexRepository,
+        mock(UserRepository.class), mock(OwnerRepository.class), mock(TrainerRepository.class),
+        eventPublisher);
+  }
+
+  @Test
+  void signupWithAnotherRolesAccountIdDoesNotOverwriteTheIndex() {
+    AccountIndex ownerIndex = new AccountIndex("fitple01", Role.OWNER, 7L, "ACTIVE");
+    when(accountIndexRepository.findByAccountId("fitple01")).thenReturn(Optional.of(ownerIndex));
+
+    assertThatThrownBy(() -> accountIndexService.checkAvailable("fitple01", Role.USER))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorType())
+        .isEqualTo(ErrorType.DUPLICATE_USERNAME);
+    assertThatThrownBy(() -> accountIndexService.sync("fitple01", Role.USER, 3L, "ACTIVE"))
+        .isInstanceOf(CustomException.class);
+
+    assertThat(ownerIndex.getRole()).isEqualTo(Role.OWNER);
+    assertThat(ownerIndex.getEntityId()).isEqualTo(7L);
+  }
+
+  @Test
+  void concurrentSignupWithAnotherRoleMapsUniqueKeyViolation() {
+    when(accountIndexRepository.findByAccountId("fitple01")).thenReturn(Optional.empty());
+    when(accountIndexRepository.saveAndFlush(any(AccountIndex.class))).thenThrow(
+        new DataIntegrityViolationException("Duplicate entry 'fitple01' for key"
+            + " 'uk_account_index_account_id'"));
+
+    assertThatThrownBy(() -> accountIndexService.sync("fitple01", Role.USER, 3L, "ACTIVE"))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorType())
+        .isEqualTo(ErrorType.DUPLICATE_USERNAME);
+  }
+
+  @Test
+  void signOutBumpsTheTokenVersion() {
+    AccountIndex ownerIndex = new AccountIndex("fitple01", Role.OWNER, 7L, "ACTIVE");
+    when(accountIndexRepository.findByAccountId("fitple01")).thenReturn(Optional.of(ownerIndex));
+
+    accountIndexService.sync("fitple01", Role.OWNER, 7L, "ACTIVE");
+    verify(eventPublisher, never()).publishEvent(any(TokenVersionBumpedEvent.class));
+
+    accountIndexService.sync("fitple01", Role.OWNER, 7L, "DELETED");
+    assertThat(ownerIndex.getTokenVersion()).isEqualTo(1L);
+    verify(eventPublisher).publishEvent(any(TokenVersionBumpedEvent.class));
+  }
+}
@@ -0,0 +1,76 @@
+package com.sparta.fitpleprojectbackend.store.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sparta.fitpleprojectbackend.store.dto.StoreSearchDocument;
+import com.sparta.fitpleprojectbackend.store.dto.StoreSimpleResponse;
+import com.sparta.fitpleprojectbackend.store.repository.StoreRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class StoreSearchIndexTest {
+
+  private StoreSearchIndex storeSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    when(storeRepository.findAllSearchDocuments()).thenReturn(List.of(
+        document(1L, "헬스장 강남점", "24시간 운영하는 헬스장"),
+        document(2L, "필라테스 스튜디오", "강남역 5번 출구"),
+        document(3L, "크로스핏 박스", "헬스 기구 완비")));
+    storeSearchIndex = new StoreSearchIndex(storeRepository,
+        mock(RedisMessageListenerContainer.class));
+    storeSearchIndex.rebuild();
+  }
+
+  @Test
+  void searchRanksNamePrefixFirst() {
+    assertThat(storeIds("헬스")).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void searchMatchesTrailingConsonant() {
+    assertThat(storeIds("헬스ㅈ")).containsExactly(1L);
+  }
+
+  @Test
+  void searchMatchesSyllableWithoutFinalConsonant() {
+    assertThat(storeIds("헬스자")).containsExactly(1L);
+    assertThat(storeIds("필라테")).containsExactly(2L);
+  }
+
+  @Test
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  void searchWithSingleConsonantWordTerminates() {
+    assertThat(storeIds("헬스 ㅋ")).containsExactly(3L);
+    assertThat(storeIds("강남 ㅎ")).containsExactly(1L);
+    assertThat(storeIds("ㅋ")).isEmpty();
+  }
+
+  @Test
+  void searchRequiresEveryWord() {
+    assertThat(storeIds("강남 필라")).containsExactly(2L);
+    assertThat(storeIds("강남 요가")).isEmpty();
+  }
+
+  private List<Long> storeIds(String query) {
+    return storeSearchIndex.search(query, 10).stream()
+        .map(StoreSimpleResponse::getStoreId)
+        .toList();
+  }
+
+  private StoreSearchDocument document(Long id, String storeName, String storeInfo) {
+    StoreSearchDocument document = mock(StoreSearchDocument.class);
+    when(document.getId()).thenReturn(id);
+    when(document.getStoreName()).thenReturn(storeName);
+    when(document.getStoreInfo()).thenReturn(storeInfo);
+    return document;
+  }
+}
@@ -0,0 +1,104 @@
+package com.sparta.fitpleprojectbackend.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.fitpleprojectbackend.enums.ErrorType;
+import com.sparta.fitpleprojectbackend.exception.CustomException;
+import com.sparta.fitpleprojectbackend.security.AccountIndexService;
+import com.sparta.fitpleprojectbackend.security.UserDetailsCache;
+import com.sparta.fitpleprojectbackend.user.dto.UserSignupRequest;
+import com.sparta.fitpleprojectbackend.user.entity.User;
+import com.sparta.fitpleprojectbackend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class UserServiceTest {
+
+  private static final int CONCURRENT_SIGNUPS = 2;
+
+  private final Map<String, User> savedUsers = new ConcurrentHashMap<>();
+
+  private UserRepository userRepository;
+
+  private UserService userService;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    //두 요청이 모두 중복 확인을 통과한 뒤 저장하도록 맞추고, 저장은 uk_user_account_id처럼 동작
+    CyclicBarrier bothChecked = new CyclicBarrier(CONCURRENT_SIGNUPS);
+    when(userRepository.findSignupConflicts(anyString(), anyString(), anyString()))
+        .thenAnswer(invocation -> {
+          bothChecked.await(5, TimeUnit.SECONDS);
+          return List.of();
+        });
+    when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+      User user = invocation.getArgument(0);
+      if (savedUsers.putIfAbsent(user.getAccountId(), user) != null) {
+        throw new DataIntegrityViolationException("Duplicate entry for key 'uk_user_account_id'");
+      }
+      return user;
+    });
+
+    PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+    userService = new UserService(userRepository, passwordEncoder, mock(UserDetailsCache.class),
+        mock(AccountIndexService.class));
+  }
+
+  @Test
+  void concurrentSignupsWithSameAccountIdCreateOneUser() throws Exception {
+    UserSignupRequest request = signupRequest("fitple01");
+
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SIGNUPS);
+    List<Future<User>> futures = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_SIGNUPS; i++) {
+      futures.add(executor.submit(() -> userService.signup(request)));
+    }
+    executor.shutdown();
+
+    int succeeded = 0;
+    List<ErrorType> errors = new ArrayList<>();
+    for (Future<User> future : futures) {
+      try {
+        future.get(5, TimeUnit.SECONDS);
+        succeeded++;
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(CustomException.class);
+        errors.add(((CustomException) e.getCause()).getErrorType());
+      }
+    }
+
+    assertThat(succeeded).isEqualTo(1);
+    assertThat(errors).containsExactly(ErrorType.DUPLICATE_USERNAME);
+    assertThat(savedUsers).containsOnlyKeys("fitple01");
+  }
+
+  private UserSignupRequest signupRequest(String accountId) {
+    return new ObjectMapper().convertValue(Map.of(
+        "userName", "홍길동",
+        "balance", 0.0,
+        "accountId", accountId,
+        "password", "password1234",
+        "confirmPassword", "password1234",
+        "email", accountId + "@fitple.com",
+        "phoneNumber", "01012345678"), UserSignupRequest.class);
+  }
+}